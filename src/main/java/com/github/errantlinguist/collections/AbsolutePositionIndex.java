@@ -0,0 +1,203 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.stream.IntStream;
+
+/**
+ * An {@link ElementPositionIndex} which stores the absolute position of each
+ * element occurrence in a {@link MultiValueMap}. Lookups are cheap but every
+ * insertion or removal before the end of the indexed {@link List} requires
+ * shifting the positions of all the elements after it, although the
+ * positions of each element are shifted in bulk.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+final class AbsolutePositionIndex implements ElementPositionIndex {
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = -6004719522592946734L;
+
+	/**
+	 * The indexed {@link List}.
+	 */
+	private final List<?> list;
+
+	/**
+	 * The map of each element to the positions at which it occurs.
+	 */
+	private MultiValueMap<Object, Integer, NavigableSet<Integer>> positions;
+
+	/**
+	 * @param list
+	 *            The {@link List} to index.
+	 */
+	AbsolutePositionIndex(final List<?> list) {
+		this.list = list;
+		this.positions = ListIndex.createListIndexMap(list);
+	}
+
+	@Override
+	public Map<Object, NavigableSet<Integer>> asMap() {
+		return positions;
+	}
+
+	@Override
+	public int ceilingPosition(final Object element, final int position) {
+		final NavigableSet<Integer> elementPositions = positions.get(element);
+		final Integer result = elementPositions == null ? null : elementPositions.ceiling(position);
+		return result == null ? -1 : result;
+	}
+
+	@Override
+	public void cleared() {
+		positions.clear();
+	}
+
+	@Override
+	public boolean containsElement(final Object element) {
+		final NavigableSet<Integer> elementPositions = positions.get(element);
+		return elementPositions != null && !elementPositions.isEmpty();
+	}
+
+	@Override
+	public int firstPosition(final Object element) {
+		final NavigableSet<Integer> elementPositions = positions.get(element);
+		return elementPositions == null || elementPositions.isEmpty() ? -1 : elementPositions.first();
+	}
+
+	@Override
+	public int floorPosition(final Object element, final int position) {
+		final NavigableSet<Integer> elementPositions = positions.get(element);
+		final Integer result = elementPositions == null ? null : elementPositions.floor(position);
+		return result == null ? -1 : result;
+	}
+
+	@Override
+	public void inserted(final int position, final int count) {
+		final int size = list.size();
+		final int shiftedStart = position + count;
+		// Shift the indices of the existing elements first to avoid possible
+		// key-value pair clashes
+		shiftPositions(list.subList(shiftedStart, size), count, position, size);
+		// Put the new elements into the map after shifting the existing
+		// elements because it is possible that the elements are present
+		// elsewhere in the list and so already have entries in the map
+		final boolean wereIndicesPut;
+		if (count == 1) {
+			wereIndicesPut = positions.putValue(list.get(position), position);
+		} else {
+			wereIndicesPut = MultiValueMap.putIncrementingValues(positions, list.subList(position, shiftedStart),
+					position);
+		}
+		assert wereIndicesPut || count < 1;
+	}
+
+	@Override
+	public int lastPosition(final Object element) {
+		final NavigableSet<Integer> elementPositions = positions.get(element);
+		return elementPositions == null || elementPositions.isEmpty() ? -1 : elementPositions.last();
+	}
+
+	@Override
+	public void rebuild() {
+		positions = ListIndex.createListIndexMap(list);
+	}
+
+	@Override
+	public void removed(final int position, final Object element) {
+		// Remove the element from the map before shifting the remaining
+		// elements because it is possible that the element is present
+		// elsewhere in the list and so still has entries in the map
+		final boolean wasRemoved = positions.removeValue(element, position);
+		assert wasRemoved;
+		if (positions.get(element).isEmpty()) {
+			positions.remove(element);
+		}
+		final int size = list.size();
+		shiftPositions(list.subList(position, size), -1, position + 1, size + 1);
+	}
+
+	@Override
+	public void removedAll(final int[] removedPositions, final List<?> elements) {
+		assert removedPositions.length == elements.size();
+		final Map<Object, IntStream.Builder> elementRemovedPositions = new HashMap<>();
+		for (int i = 0; i < removedPositions.length; ++i) {
+			elementRemovedPositions.computeIfAbsent(elements.get(i), k -> IntStream.builder())
+					.add(removedPositions[i]);
+		}
+		for (final Map.Entry<Object, IntStream.Builder> entry : elementRemovedPositions.entrySet()) {
+			final Object element = entry.getKey();
+			final int[] elementPositions = entry.getValue().build().toArray();
+			final NavigableSet<Integer> oldElementPositions = positions.get(element);
+			if (oldElementPositions.size() == elementPositions.length) {
+				// Every occurrence of the element was removed
+				positions.remove(element);
+			} else {
+				for (final int position : elementPositions) {
+					final boolean wasRemoved = positions.removeValue(element, position);
+					assert wasRemoved;
+				}
+			}
+		}
+		MultiValueMap.closeValueGaps(positions, removedPositions);
+	}
+
+	@Override
+	public void replaced(final int position, final Object oldElement) {
+		final Integer positionValue = Integer.valueOf(position);
+		// Remove the old key-index pair from the map
+		final boolean wasOldKeyRemoved = positions.removeValue(oldElement, positionValue);
+		assert wasOldKeyRemoved;
+		if (positions.get(oldElement).isEmpty()) {
+			positions.remove(oldElement);
+		}
+		// Put the new key-index pair into the map
+		final boolean wasNewKeyPut = positions.putValue(list.get(position), positionValue);
+		assert wasNewKeyPut;
+	}
+
+	/**
+	 * Shifts the positions of the elements in a given range, visiting either
+	 * only the shifted elements or every key in the index, whichever is fewer.
+	 *
+	 * @param shiftedElements
+	 *            The elements whose positions are to be shifted.
+	 * @param delta
+	 *            The amount to shift the positions by.
+	 * @param fromPosition
+	 *            The inclusive minimum of the positions to shift.
+	 * @param toPosition
+	 *            The exclusive maximum of the positions to shift.
+	 */
+	private void shiftPositions(final List<?> shiftedElements, final int delta, final int fromPosition,
+			final int toPosition) {
+		if (shiftedElements.size() < positions.size()) {
+			MultiValueMap.incrementValues(positions, shiftedElements, delta, fromPosition, toPosition);
+		} else {
+			MultiValueMap.incrementAllValues(positions, delta, fromPosition, toPosition);
+		}
+	}
+
+}
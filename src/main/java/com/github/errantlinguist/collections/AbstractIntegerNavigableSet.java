@@ -0,0 +1,1034 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.SortedSet;
+import java.util.stream.IntStream;
+
+/**
+ * A skeletal {@link NavigableSet} implementation for sets of {@link Integer}
+ * objects in their natural order which are defined in terms of primitive
+ * {@code int} operations, thus avoiding boxing on the hot paths of subclasses.
+ * Subclasses need only implement {@link #size()}, {@link #containsInt(int)},
+ * {@link #ceilingValue(int)} and {@link #floorValue(int)}; Modifiable sets
+ * should furthermore override {@link #addInt(int)} and
+ * {@link #removeInt(int)}, and may override {@link #shiftValues(int, int, int)}
+ * if their representation allows shifting ranges of elements cheaply.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public abstract class AbstractIntegerNavigableSet extends AbstractSet<Integer> implements NavigableSet<Integer> {
+
+	/**
+	 * A descending view of an {@link AbstractIntegerNavigableSet}.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class DescendingView extends AbstractSet<Integer> implements NavigableSet<Integer> {
+
+		/**
+		 * The ascending set this is a view of.
+		 */
+		private final AbstractIntegerNavigableSet ascending;
+
+		private DescendingView(final AbstractIntegerNavigableSet ascending) {
+			this.ascending = ascending;
+		}
+
+		@Override
+		public boolean add(final Integer e) {
+			return ascending.add(e);
+		}
+
+		@Override
+		public Integer ceiling(final Integer e) {
+			return ascending.floor(e);
+		}
+
+		@Override
+		public void clear() {
+			ascending.clear();
+		}
+
+		@Override
+		public Comparator<? super Integer> comparator() {
+			return Collections.reverseOrder();
+		}
+
+		@Override
+		public boolean contains(final Object o) {
+			return ascending.contains(o);
+		}
+
+		@Override
+		public Iterator<Integer> descendingIterator() {
+			return ascending.iterator();
+		}
+
+		@Override
+		public NavigableSet<Integer> descendingSet() {
+			return ascending;
+		}
+
+		@Override
+		public Integer first() {
+			return ascending.last();
+		}
+
+		@Override
+		public Integer floor(final Integer e) {
+			return ascending.ceiling(e);
+		}
+
+		@Override
+		public SortedSet<Integer> headSet(final Integer toElement) {
+			return headSet(toElement, false);
+		}
+
+		@Override
+		public NavigableSet<Integer> headSet(final Integer toElement, final boolean inclusive) {
+			return ascending.tailSet(toElement, inclusive).descendingSet();
+		}
+
+		@Override
+		public Integer higher(final Integer e) {
+			return ascending.lower(e);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return ascending.isEmpty();
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return ascending.descendingIterator();
+		}
+
+		@Override
+		public Integer last() {
+			return ascending.first();
+		}
+
+		@Override
+		public Integer lower(final Integer e) {
+			return ascending.higher(e);
+		}
+
+		@Override
+		public Integer pollFirst() {
+			return ascending.pollLast();
+		}
+
+		@Override
+		public Integer pollLast() {
+			return ascending.pollFirst();
+		}
+
+		@Override
+		public boolean remove(final Object o) {
+			return ascending.remove(o);
+		}
+
+		@Override
+		public int size() {
+			return ascending.size();
+		}
+
+		@Override
+		public NavigableSet<Integer> subSet(final Integer fromElement, final boolean fromInclusive,
+				final Integer toElement, final boolean toInclusive) {
+			return ascending.subSet(toElement, toInclusive, fromElement, fromInclusive).descendingSet();
+		}
+
+		@Override
+		public SortedSet<Integer> subSet(final Integer fromElement, final Integer toElement) {
+			return subSet(fromElement, true, toElement, false);
+		}
+
+		@Override
+		public SortedSet<Integer> tailSet(final Integer fromElement) {
+			return tailSet(fromElement, true);
+		}
+
+		@Override
+		public NavigableSet<Integer> tailSet(final Integer fromElement, final boolean inclusive) {
+			return ascending.headSet(fromElement, inclusive).descendingSet();
+		}
+
+	}
+
+	/**
+	 * An {@link PrimitiveIterator.OfInt iterator} which finds each successive
+	 * element by navigating its set rather than by any knowledge of the
+	 * set's internal structure. This makes it robust against modification of
+	 * the set between calls but means that each step costs as much as a
+	 * {@link AbstractIntegerNavigableSet#ceilingValue(int) ceiling} or
+	 * {@link AbstractIntegerNavigableSet#floorValue(int) floor} lookup.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class NavigatingIterator implements PrimitiveIterator.OfInt {
+
+		private final boolean ascending;
+
+		private long lastReturned = NO_SUCH_VALUE;
+
+		private long next;
+
+		private final AbstractIntegerNavigableSet set;
+
+		private NavigatingIterator(final AbstractIntegerNavigableSet set, final long first, final boolean ascending) {
+			this.set = set;
+			this.next = first;
+			this.ascending = ascending;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != NO_SUCH_VALUE;
+		}
+
+		@Override
+		public int nextInt() {
+			if (next == NO_SUCH_VALUE) {
+				throw new NoSuchElementException();
+			}
+			final int result = (int) next;
+			lastReturned = next;
+			next = ascending ? set.higherValue(result) : set.lowerValue(result);
+			return result;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned == NO_SUCH_VALUE) {
+				throw new IllegalStateException();
+			}
+			set.removeInt((int) lastReturned);
+			lastReturned = NO_SUCH_VALUE;
+		}
+
+	}
+
+	/**
+	 * A view of the elements of an {@link AbstractIntegerNavigableSet} which
+	 * lie within a given closed range.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class RangeView extends AbstractIntegerNavigableSet {
+
+		/**
+		 * The set this is a view of.
+		 */
+		private final AbstractIntegerNavigableSet backing;
+
+		/**
+		 * The inclusive maximum of the range of this view.
+		 */
+		private final long high;
+
+		/**
+		 * The inclusive minimum of the range of this view.
+		 */
+		private final long low;
+
+		private RangeView(final AbstractIntegerNavigableSet backing, final long low, final long high) {
+			this.backing = backing;
+			this.low = low;
+			this.high = high;
+		}
+
+		@Override
+		public boolean addInt(final int value) {
+			if (!isInRange(value)) {
+				throw new IllegalArgumentException("Value out of range: " + value);
+			}
+			return backing.addInt(value);
+		}
+
+		@Override
+		public boolean containsInt(final int value) {
+			return isInRange(value) && backing.containsInt(value);
+		}
+
+		@Override
+		public PrimitiveIterator.OfInt descendingIntIterator(final int fromValue) {
+			return new NavigatingIterator(this, floorValue(fromValue), false);
+		}
+
+		@Override
+		public PrimitiveIterator.OfInt intIterator(final int fromValue) {
+			return new NavigatingIterator(this, ceilingValue(fromValue), true);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return ceilingValue(Integer.MIN_VALUE) == NO_SUCH_VALUE;
+		}
+
+		@Override
+		public boolean removeInt(final int value) {
+			return isInRange(value) && backing.removeInt(value);
+		}
+
+		@Override
+		public int size() {
+			int result = 0;
+			for (final PrimitiveIterator.OfInt iter = intIterator(); iter.hasNext(); iter.nextInt()) {
+				result++;
+			}
+			return result;
+		}
+
+		@Override
+		protected long ceilingValue(final int value) {
+			final long result;
+			if (value > high || low > high) {
+				result = NO_SUCH_VALUE;
+			} else {
+				final long ceiling = backing.ceilingValue((int) Math.max(value, low));
+				result = ceiling > high ? NO_SUCH_VALUE : ceiling;
+			}
+			return result;
+		}
+
+		@Override
+		protected long floorValue(final int value) {
+			final long result;
+			if (value < low || low > high) {
+				result = NO_SUCH_VALUE;
+			} else {
+				final long floor = backing.floorValue((int) Math.min(value, high));
+				result = floor < low ? NO_SUCH_VALUE : floor;
+			}
+			return result;
+		}
+
+		@Override
+		NavigableSet<Integer> createRangeView(final long low, final long high) {
+			if (low < this.low || high > this.high) {
+				throw new IllegalArgumentException("Range out of bounds.");
+			}
+			return new RangeView(backing, low, high);
+		}
+
+		private boolean isInRange(final int value) {
+			return low <= value && value <= high;
+		}
+
+	}
+
+	/**
+	 * The value returned by the primitive navigation methods to signify that
+	 * no such element exists; It is outside of the range of {@code int} and so
+	 * cannot be confused with an element.
+	 */
+	protected static final long NO_SUCH_VALUE = Long.MIN_VALUE;
+
+	/**
+	 * Boxes the result of a primitive navigation method.
+	 *
+	 * @param value
+	 *            The value to box.
+	 * @return The corresponding {@link Integer} or {@code null} if the value
+	 *         is {@link #NO_SUCH_VALUE}.
+	 */
+	private static Integer box(final long value) {
+		return value == NO_SUCH_VALUE ? null : Integer.valueOf((int) value);
+	}
+
+	/**
+	 * Checks that adding a given delta to the values within a given range
+	 * would not overflow the range of {@code int}.
+	 *
+	 * @param first
+	 *            The least value to be shifted.
+	 * @param last
+	 *            The greatest value to be shifted.
+	 * @param delta
+	 *            The amount to shift the values by.
+	 * @throws IllegalArgumentException
+	 *             If a shifted value would overflow.
+	 */
+	static void checkShiftedRange(final long first, final long last, final int delta) {
+		if (first + delta < Integer.MIN_VALUE || last + delta > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+					"Shifting the values [" + first + ", " + last + "] by " + delta + " would overflow.");
+		}
+	}
+
+	/**
+	 * Counts the values of a sorted array which are less than a given value.
+	 *
+	 * @param sortedValues
+	 *            An array of distinct values in ascending order.
+	 * @param value
+	 *            The value to compare against.
+	 * @return The number of array values less than the given value.
+	 */
+	static int countLower(final int[] sortedValues, final int value) {
+		final int index = Arrays.binarySearch(sortedValues, value);
+		return index < 0 ? -(index + 1) : index;
+	}
+
+	/**
+	 * Merges the values in a given range of a sorted array into another sorted
+	 * array of distinct values, dropping any values already present.
+	 *
+	 * @param values
+	 *            The array of values to merge into, the first {@code size}
+	 *            elements of which are in ascending order.
+	 * @param size
+	 *            The number of values in the array.
+	 * @param added
+	 *            The array of values to merge, which are in strictly ascending
+	 *            order.
+	 * @param fromIndex
+	 *            The inclusive array index of the first value to merge.
+	 * @param toIndex
+	 *            The exclusive array index of the last value to merge.
+	 * @param dest
+	 *            The array to put the merged values into, which may be
+	 *            {@code values} itself if it has enough room for all of them.
+	 * @return The number of merged values.
+	 */
+	static int mergeSortedValues(final int[] values, final int size, final int[] added, final int fromIndex,
+			final int toIndex, final int[] dest) {
+		int result = size;
+		for (int i = fromIndex; i < toIndex; ++i) {
+			if (Arrays.binarySearch(values, 0, size, added[i]) < 0) {
+				result++;
+			}
+		}
+		// Merge from the back so that the values can be merged in place
+		int valueIndex = size - 1;
+		int addedIndex = toIndex - 1;
+		int destIndex = result - 1;
+		while (addedIndex >= fromIndex) {
+			if (valueIndex >= 0 && values[valueIndex] > added[addedIndex]) {
+				dest[destIndex--] = values[valueIndex--];
+			} else {
+				if (valueIndex >= 0 && values[valueIndex] == added[addedIndex]) {
+					valueIndex--;
+				}
+				dest[destIndex--] = added[addedIndex--];
+			}
+		}
+		if (dest != values) {
+			System.arraycopy(values, 0, dest, 0, valueIndex + 1);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads a set of values written by
+	 * {@link #writeValueRuns(DataOutput, PrimitiveIterator.OfInt, int)}.
+	 *
+	 * @param in
+	 *            The input to read from.
+	 * @return A new array of the values read in ascending order.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 * @throws InvalidObjectException
+	 *             If the values read are not strictly ascending or do not
+	 *             match their count.
+	 */
+	static int[] readValueRuns(final DataInput in) throws IOException {
+		final int count = in.readInt();
+		if (count < 0) {
+			throw new InvalidObjectException("Negative value count: " + count);
+		}
+		final int[] result = new int[count];
+		long previous = Integer.MIN_VALUE - 1L;
+		int i = 0;
+		while (i < count) {
+			final long header = readVarLong(in);
+			final long start = previous + (header >>> 1) + 1;
+			final long runLength = (header & 1) == 0 ? 1 : readVarLong(in) + 2;
+			final long end = start + runLength - 1;
+			if (runLength < 1 || end > Integer.MAX_VALUE || i + runLength > count) {
+				throw new InvalidObjectException("Value run exceeds the range of the set.");
+			}
+			for (long value = start; value <= end; ++value) {
+				result[i++] = (int) value;
+			}
+			previous = end;
+		}
+		return result;
+	}
+
+	private static long readVarLong(final DataInput in) throws IOException {
+		long result = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			final byte b = in.readByte();
+			result |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return result;
+			}
+		}
+		throw new InvalidObjectException("Malformed variable-length integer.");
+	}
+
+	/**
+	 * Adds a given delta to a contiguous segment of a sorted array of
+	 * distinct values in place. If the shifted segment no longer fits between
+	 * its neighbours, the whole array is merged anew, dropping any values
+	 * which coincide.
+	 *
+	 * @param values
+	 *            The array of values, the first {@code size} elements of
+	 *            which are in ascending order.
+	 * @param size
+	 *            The number of values in the array.
+	 * @param start
+	 *            The inclusive array index of the first value to shift.
+	 * @param end
+	 *            The exclusive array index of the last value to shift.
+	 * @param delta
+	 *            The amount to shift the values by, which must not make any of
+	 *            them overflow.
+	 * @return The new number of values in the array.
+	 */
+	static int shiftSortedValues(final int[] values, final int size, final int start, final int end,
+			final int delta) {
+		final int result;
+		if (start >= end || delta == 0) {
+			result = size;
+		} else if ((start < 1 || values[start - 1] < values[start] + delta)
+				&& (end >= size || values[end - 1] + delta < values[end])) {
+			for (int i = start; i < end; ++i) {
+				values[i] += delta;
+			}
+			result = size;
+		} else {
+			final int[] shifted = Arrays.copyOfRange(values, start, end);
+			for (int i = 0; i < shifted.length; ++i) {
+				shifted[i] += delta;
+			}
+			final int[] unshifted = new int[size - shifted.length];
+			System.arraycopy(values, 0, unshifted, 0, start);
+			System.arraycopy(values, end, unshifted, start, size - end);
+			int count = 0;
+			int shiftedIndex = 0;
+			int unshiftedIndex = 0;
+			while (shiftedIndex < shifted.length || unshiftedIndex < unshifted.length) {
+				final int next;
+				if (unshiftedIndex >= unshifted.length) {
+					next = shifted[shiftedIndex++];
+				} else if (shiftedIndex >= shifted.length) {
+					next = unshifted[unshiftedIndex++];
+				} else if (shifted[shiftedIndex] < unshifted[unshiftedIndex]) {
+					next = shifted[shiftedIndex++];
+				} else {
+					next = unshifted[unshiftedIndex++];
+				}
+				if (count < 1 || values[count - 1] != next) {
+					values[count++] = next;
+				}
+			}
+			result = count;
+		}
+		return result;
+	}
+
+	/**
+	 * Writes a set of values compactly as a sequence of runs of consecutive
+	 * values, each of which is encoded as the variable-length distance from
+	 * the end of the previous run followed by its length if greater than one,
+	 * so that sparse values take about one byte per small gap and dense values
+	 * about two bytes per run.
+	 *
+	 * @param out
+	 *            The output to write to.
+	 * @param values
+	 *            The values to write in strictly ascending order.
+	 * @param count
+	 *            The number of values.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	static void writeValueRuns(final DataOutput out, final PrimitiveIterator.OfInt values, final int count)
+			throws IOException {
+		out.writeInt(count);
+		long previous = Integer.MIN_VALUE - 1L;
+		boolean hasNext = values.hasNext();
+		int next = hasNext ? values.nextInt() : 0;
+		while (hasNext) {
+			final int start = next;
+			int end = start;
+			hasNext = false;
+			while (values.hasNext()) {
+				next = values.nextInt();
+				if (next == end + 1) {
+					end = next;
+				} else {
+					hasNext = true;
+					break;
+				}
+			}
+			final long gap = start - previous - 1;
+			if (start == end) {
+				writeVarLong(out, gap << 1);
+			} else {
+				writeVarLong(out, gap << 1 | 1);
+				writeVarLong(out, (long) end - start - 1);
+			}
+			previous = end;
+		}
+	}
+
+	private static void writeVarLong(final DataOutput out, final long value) throws IOException {
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0) {
+			out.writeByte((int) (remaining & 0x7F | 0x80));
+			remaining >>>= 7;
+		}
+		out.writeByte((int) remaining);
+	}
+
+	@Override
+	public boolean add(final Integer e) {
+		return addInt(e.intValue());
+	}
+
+	/**
+	 * Adds a given value to this set if it is not already present.
+	 *
+	 * @param value
+	 *            The value to add.
+	 * @return {@code true} iff the set did not already contain the value.
+	 * @throws UnsupportedOperationException
+	 *             If the set is not modifiable.
+	 */
+	public boolean addInt(final int value) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Adds the values in a given range of an array, which are in strictly
+	 * ascending order, to this set.
+	 * <p>
+	 * This implementation adds each value in turn; Subclasses should override
+	 * it if they can merge the values into their representation in a single
+	 * pass.
+	 *
+	 * @param values
+	 *            The array of values to add.
+	 * @param fromIndex
+	 *            The inclusive array index of the first value to add.
+	 * @param toIndex
+	 *            The exclusive array index of the last value to add.
+	 * @return {@code true} if at least one value was not already present.
+	 * @throws UnsupportedOperationException
+	 *             If the set is not modifiable.
+	 */
+	public boolean addAscending(final int[] values, final int fromIndex, final int toIndex) {
+		boolean result = false;
+		for (int i = fromIndex; i < toIndex; ++i) {
+			if (addInt(values[i])) {
+				result = true;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean addAll(final Collection<? extends Integer> c) {
+		boolean result = false;
+		if (c instanceof AbstractIntegerNavigableSet) {
+			for (final PrimitiveIterator.OfInt iter = ((AbstractIntegerNavigableSet) c).intIterator(); iter
+					.hasNext();) {
+				if (addInt(iter.nextInt())) {
+					result = true;
+				}
+			}
+		} else {
+			result = super.addAll(c);
+		}
+		return result;
+	}
+
+	@Override
+	public Integer ceiling(final Integer e) {
+		return box(ceilingValue(e.intValue()));
+	}
+
+	/**
+	 * Closes the given gaps in the sequence of elements of this set, as if
+	 * the gap values had been removed from a list of positions: Each element
+	 * is decremented by the number of gaps which are less than it. Since no
+	 * gap is an element, the order of the elements is preserved.
+	 * <p>
+	 * This implementation copies the decremented elements, clears the set and
+	 * then adds them again; Subclasses should override it if their
+	 * representation allows decrementing elements in place.
+	 *
+	 * @param gaps
+	 *            The values to close, in strictly ascending order, none of
+	 *            which is an element of this set.
+	 * @throws UnsupportedOperationException
+	 *             If the set is not modifiable.
+	 */
+	public void closeGaps(final int[] gaps) {
+		if (gaps.length > 0 && !isEmpty() && lastInt() > gaps[0]) {
+			final IntStream.Builder closedValueBuilder = IntStream.builder();
+			for (final PrimitiveIterator.OfInt iter = intIterator(); iter.hasNext();) {
+				final int value = iter.nextInt();
+				assert Arrays.binarySearch(gaps, value) < 0;
+				closedValueBuilder.add(value - countLower(gaps, value));
+			}
+			final int[] closedValues = closedValueBuilder.build().toArray();
+			clear();
+			addAscending(closedValues, 0, closedValues.length);
+		}
+	}
+
+	@Override
+	public Comparator<? super Integer> comparator() {
+		return null;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return o instanceof Integer && containsInt(((Integer) o).intValue());
+	}
+
+	/**
+	 * Checks if a given value is present in this set.
+	 *
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true} iff the set contains the value.
+	 */
+	public abstract boolean containsInt(int value);
+
+	/**
+	 * @return An {@link PrimitiveIterator.OfInt iterator} over the elements in
+	 *         this set in descending order.
+	 */
+	public PrimitiveIterator.OfInt descendingIntIterator() {
+		return descendingIntIterator(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns an {@link PrimitiveIterator.OfInt iterator} over the elements in
+	 * this set in descending order, starting at the greatest element less
+	 * than or equal to a given value.
+	 *
+	 * @param fromValue
+	 *            The inclusive maximum of the elements to iterate over.
+	 * @return A new iterator.
+	 */
+	public PrimitiveIterator.OfInt descendingIntIterator(final int fromValue) {
+		return new NavigatingIterator(this, floorValue(fromValue), false);
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt descendingIterator() {
+		return descendingIntIterator();
+	}
+
+	@Override
+	public NavigableSet<Integer> descendingSet() {
+		return new DescendingView(this);
+	}
+
+	@Override
+	public Integer first() {
+		return Integer.valueOf(firstInt());
+	}
+
+	/**
+	 * @return The lowest element in this set.
+	 * @throws NoSuchElementException
+	 *             If the set is empty.
+	 */
+	public int firstInt() {
+		final long result = ceilingValue(Integer.MIN_VALUE);
+		if (result == NO_SUCH_VALUE) {
+			throw new NoSuchElementException();
+		}
+		return (int) result;
+	}
+
+	@Override
+	public Integer floor(final Integer e) {
+		return box(floorValue(e.intValue()));
+	}
+
+	@Override
+	public SortedSet<Integer> headSet(final Integer toElement) {
+		return headSet(toElement, false);
+	}
+
+	@Override
+	public NavigableSet<Integer> headSet(final Integer toElement, final boolean inclusive) {
+		final long high = inclusive ? toElement.longValue() : toElement.longValue() - 1;
+		return createRangeView(Integer.MIN_VALUE, high);
+	}
+
+	@Override
+	public Integer higher(final Integer e) {
+		return box(higherValue(e.intValue()));
+	}
+
+	/**
+	 * @return An {@link PrimitiveIterator.OfInt iterator} over the elements in
+	 *         this set in ascending order.
+	 */
+	public PrimitiveIterator.OfInt intIterator() {
+		return intIterator(Integer.MIN_VALUE);
+	}
+
+	/**
+	 * Returns an {@link PrimitiveIterator.OfInt iterator} over the elements in
+	 * this set in ascending order, starting at the least element greater than
+	 * or equal to a given value.
+	 *
+	 * @param fromValue
+	 *            The inclusive minimum of the elements to iterate over.
+	 * @return A new iterator.
+	 */
+	public PrimitiveIterator.OfInt intIterator(final int fromValue) {
+		return new NavigatingIterator(this, ceilingValue(fromValue), true);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() < 1;
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return intIterator();
+	}
+
+	@Override
+	public Integer last() {
+		return Integer.valueOf(lastInt());
+	}
+
+	/**
+	 * @return The highest element in this set.
+	 * @throws NoSuchElementException
+	 *             If the set is empty.
+	 */
+	public int lastInt() {
+		final long result = floorValue(Integer.MAX_VALUE);
+		if (result == NO_SUCH_VALUE) {
+			throw new NoSuchElementException();
+		}
+		return (int) result;
+	}
+
+	@Override
+	public Integer lower(final Integer e) {
+		return box(lowerValue(e.intValue()));
+	}
+
+	@Override
+	public Integer pollFirst() {
+		final long first = ceilingValue(Integer.MIN_VALUE);
+		if (first != NO_SUCH_VALUE) {
+			removeInt((int) first);
+		}
+		return box(first);
+	}
+
+	@Override
+	public Integer pollLast() {
+		final long last = floorValue(Integer.MAX_VALUE);
+		if (last != NO_SUCH_VALUE) {
+			removeInt((int) last);
+		}
+		return box(last);
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		return o instanceof Integer && removeInt(((Integer) o).intValue());
+	}
+
+	/**
+	 * Removes a given value from this set if it is present.
+	 *
+	 * @param value
+	 *            The value to remove.
+	 * @return {@code true} iff the set contained the value.
+	 * @throws UnsupportedOperationException
+	 *             If the set is not modifiable.
+	 */
+	public boolean removeInt(final int value) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Adds a given delta to each element of this set which lies within a given
+	 * range, merging the shifted elements with any elements already present
+	 * at their new positions.
+	 * <p>
+	 * This implementation copies the elements in the range, removes them and
+	 * then adds the shifted elements; Subclasses should override it if their
+	 * representation allows shifting elements in place.
+	 *
+	 * @param fromValue
+	 *            The inclusive minimum of the elements to shift.
+	 * @param toValue
+	 *            The exclusive maximum of the elements to shift.
+	 * @param delta
+	 *            The amount to shift the elements by.
+	 * @throws IllegalArgumentException
+	 *             If a shifted element would overflow the range of
+	 *             {@code int}.
+	 * @throws UnsupportedOperationException
+	 *             If the set is not modifiable.
+	 */
+	public void shiftValues(final int fromValue, final int toValue, final int delta) {
+		final long first = fromValue < toValue ? ceilingValue(fromValue) : NO_SUCH_VALUE;
+		if (delta != 0 && first != NO_SUCH_VALUE && first < toValue) {
+			checkShiftedRange(first, floorValue(toValue - 1), delta);
+			final IntStream.Builder shiftedValueBuilder = IntStream.builder();
+			for (final PrimitiveIterator.OfInt iter = intIterator(fromValue); iter.hasNext();) {
+				final int value = iter.nextInt();
+				if (value >= toValue) {
+					break;
+				}
+				shiftedValueBuilder.add(value);
+			}
+			final int[] shiftedValues = shiftedValueBuilder.build().toArray();
+			// Remove all the old values before adding any new ones so that no
+			// new value is removed as an old one
+			for (final int value : shiftedValues) {
+				removeInt(value);
+			}
+			for (final int value : shiftedValues) {
+				addInt(value + delta);
+			}
+		}
+	}
+
+	@Override
+	public NavigableSet<Integer> subSet(final Integer fromElement, final boolean fromInclusive, final Integer toElement,
+			final boolean toInclusive) {
+		if (fromElement.compareTo(toElement) > 0) {
+			throw new IllegalArgumentException("fromElement > toElement");
+		}
+		final long low = fromInclusive ? fromElement.longValue() : fromElement.longValue() + 1;
+		final long high = toInclusive ? toElement.longValue() : toElement.longValue() - 1;
+		return createRangeView(low, high);
+	}
+
+	@Override
+	public SortedSet<Integer> subSet(final Integer fromElement, final Integer toElement) {
+		return subSet(fromElement, true, toElement, false);
+	}
+
+	@Override
+	public SortedSet<Integer> tailSet(final Integer fromElement) {
+		return tailSet(fromElement, true);
+	}
+
+	@Override
+	public NavigableSet<Integer> tailSet(final Integer fromElement, final boolean inclusive) {
+		final long low = inclusive ? fromElement.longValue() : fromElement.longValue() + 1;
+		return createRangeView(low, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Finds the least element in this set greater than or equal to a given
+	 * value.
+	 *
+	 * @param value
+	 *            The value to match.
+	 * @return The matching element or {@link #NO_SUCH_VALUE} if there is no
+	 *         such element.
+	 */
+	protected abstract long ceilingValue(int value);
+
+	/**
+	 * Finds the greatest element in this set less than or equal to a given
+	 * value.
+	 *
+	 * @param value
+	 *            The value to match.
+	 * @return The matching element or {@link #NO_SUCH_VALUE} if there is no
+	 *         such element.
+	 */
+	protected abstract long floorValue(int value);
+
+	/**
+	 * Finds the least element in this set strictly greater than a given
+	 * value.
+	 *
+	 * @param value
+	 *            The value to match.
+	 * @return The matching element or {@link #NO_SUCH_VALUE} if there is no
+	 *         such element.
+	 */
+	protected long higherValue(final int value) {
+		return value == Integer.MAX_VALUE ? NO_SUCH_VALUE : ceilingValue(value + 1);
+	}
+
+	/**
+	 * Finds the greatest element in this set strictly less than a given
+	 * value.
+	 *
+	 * @param value
+	 *            The value to match.
+	 * @return The matching element or {@link #NO_SUCH_VALUE} if there is no
+	 *         such element.
+	 */
+	protected long lowerValue(final int value) {
+		return value == Integer.MIN_VALUE ? NO_SUCH_VALUE : floorValue(value - 1);
+	}
+
+	/**
+	 * Creates a view of the elements of this set within a given closed range.
+	 *
+	 * @param low
+	 *            The inclusive minimum of the range.
+	 * @param high
+	 *            The inclusive maximum of the range.
+	 * @return A new view.
+	 */
+	NavigableSet<Integer> createRangeView(final long low, final long high) {
+		return new RangeView(this, low, high);
+	}
+
+}
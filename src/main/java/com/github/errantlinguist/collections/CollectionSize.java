@@ -15,8 +15,10 @@
  */
 package com.github.errantlinguist.collections;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Vector;
 
 /**
  * A utility class for manipulating the size of {@link Collection} objects.
@@ -43,7 +45,12 @@ public final class CollectionSize {
 
 	/**
 	 * Ensures that a given {@link Collection} has a given size, adding
-	 * references to it until it has the given size.
+	 * references to it until it has the given size. A {@link PaddedList}
+	 * padded with the given element is enlarged without storing any elements;
+	 * an {@link ArrayList} or {@link Vector} has its capacity ensured and is
+	 * then appended to one element at a time, which avoids copying the
+	 * elements to add into a temporary array as
+	 * {@link Collection#addAll(Collection)} does.
 	 *
 	 * @param collection
 	 *            The {@code Collection} to increase the size of.
@@ -59,16 +66,35 @@ public final class CollectionSize {
 		final boolean result;
 
 		final int sizeDifference = size - collection.size();
-		if (sizeDifference > 0) {
+		if (sizeDifference < 1) {
+			result = false;
+		} else if (collection instanceof PaddedList
+				&& ((PaddedList<E>) collection).getDefaultElement() == defaultElement) {
+			result = ((PaddedList<E>) collection).ensureSize(size);
+		} else if (collection instanceof ArrayList) {
+			final ArrayList<E> list = (ArrayList<E>) collection;
+			list.ensureCapacity(size);
+			appendCopies(list, sizeDifference, defaultElement);
+			result = true;
+		} else if (collection instanceof Vector) {
+			final Vector<E> list = (Vector<E>) collection;
+			list.ensureCapacity(size);
+			appendCopies(list, sizeDifference, defaultElement);
+			result = true;
+		} else {
 			final Collection<E> elementsToAdd = Collections.nCopies(sizeDifference, defaultElement);
 			result = collection.addAll(elementsToAdd);
-		} else {
-			result = false;
 		}
 
 		return result;
 	}
 
+	private static <E> void appendCopies(final Collection<E> collection, final int count, final E element) {
+		for (int i = 0; i < count; ++i) {
+			collection.add(element);
+		}
+	}
+
 	private CollectionSize() {
 		// Avoid instantiation
 	}
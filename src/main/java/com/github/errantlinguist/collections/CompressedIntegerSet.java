@@ -0,0 +1,1315 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link NavigableSet} of {@link Integer} objects which stores its elements
+ * in whichever of three representations currently takes the least memory, in
+ * the manner of <a href="https://roaringbitmap.org/">Roaring bitmaps</a>:
+ * <ul>
+ * <li>A sorted array of the values, for sparse sets.</li>
+ * <li>A bitmap spanning the range of the values, for dense sets.</li>
+ * <li>A sorted array of runs of consecutive values, for sets of long
+ * sequences.</li>
+ * </ul>
+ * The representation is re-evaluated whenever the backing storage needs to
+ * grow and whenever the set has shrunk to half its size since the last
+ * evaluation, so that the cost of doing so is amortized over the operations
+ * on the set. {@link #firstInt()} and {@link #lastInt()} are cheap in each
+ * representation.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class CompressedIntegerSet extends AbstractIntegerNavigableSet implements Serializable {
+
+	/**
+	 * A container of sorted values as a sorted array.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class ArrayContainer extends Container {
+
+		private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = 7452893521064938766L;
+
+		private static ArrayContainer create(final Container container) {
+			return create(container, 0);
+		}
+
+		/**
+		 * Creates a container with the values of another container shifted by
+		 * a given offset.
+		 *
+		 * @param container
+		 *            The container to copy.
+		 * @param offset
+		 *            The amount to add to each value, which must not make any
+		 *            of them overflow.
+		 * @return A new container.
+		 */
+		private static ArrayContainer create(final Container container, final long offset) {
+			final int cardinality = container.cardinality();
+			final ArrayContainer result = new ArrayContainer(new int[cardinality]);
+			for (final PrimitiveIterator.OfInt iter = container.iterator(Integer.MIN_VALUE, true); iter.hasNext();) {
+				result.values[result.size++] = (int) (iter.nextInt() + offset);
+			}
+			return result;
+		}
+
+		private int size;
+
+		private int[] values;
+
+		private ArrayContainer() {
+			this(new int[DEFAULT_INITIAL_CAPACITY]);
+		}
+
+		private ArrayContainer(final int[] values) {
+			this.values = values;
+			this.size = 0;
+		}
+
+		@Override
+		boolean add(final int value) {
+			final int index = size > 0 && values[size - 1] < value ? size
+					: -(Arrays.binarySearch(values, 0, size, value) + 1);
+			final boolean result = size == values.length;
+			if (result) {
+				values = Arrays.copyOf(values, Math.max(DEFAULT_INITIAL_CAPACITY, size + (size >> 1) + 1));
+			}
+			System.arraycopy(values, index, values, index + 1, size - index);
+			values[index] = value;
+			size++;
+			return result;
+		}
+
+		@Override
+		boolean addAll(final int[] added, final int fromIndex, final int toIndex) {
+			final int maxSize = size + toIndex - fromIndex;
+			final boolean result = maxSize > values.length;
+			final int[] dest = result ? new int[Math.max(DEFAULT_INITIAL_CAPACITY, maxSize + (maxSize >> 1))]
+					: values;
+			size = mergeSortedValues(values, size, added, fromIndex, toIndex, dest);
+			values = dest;
+			return result;
+		}
+
+		@Override
+		int cardinality() {
+			return size;
+		}
+
+		@Override
+		long ceiling(final int value) {
+			final int index = Arrays.binarySearch(values, 0, size, value);
+			final long result;
+			if (index >= 0) {
+				result = value;
+			} else {
+				final int insertionPoint = -(index + 1);
+				result = insertionPoint < size ? values[insertionPoint] : NO_SUCH_VALUE;
+			}
+			return result;
+		}
+
+		@Override
+		Container closeGaps(final int[] gaps, final long offset) {
+			for (int i = 0; i < size; ++i) {
+				values[i] -= countLower(gaps, (int) (values[i] + offset));
+			}
+			return this;
+		}
+
+		@Override
+		boolean contains(final int value) {
+			return Arrays.binarySearch(values, 0, size, value) >= 0;
+		}
+
+		@Override
+		int first() {
+			return values[0];
+		}
+
+		@Override
+		long floor(final int value) {
+			final int index = Arrays.binarySearch(values, 0, size, value);
+			final long result;
+			if (index >= 0) {
+				result = value;
+			} else {
+				final int precedingIndex = -(index + 1) - 1;
+				result = precedingIndex >= 0 ? values[precedingIndex] : NO_SUCH_VALUE;
+			}
+			return result;
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator(final int fromValue, final boolean ascending) {
+			final int index = Arrays.binarySearch(values, 0, size, fromValue);
+			final int start;
+			if (index >= 0) {
+				start = index;
+			} else {
+				start = ascending ? -(index + 1) : -(index + 1) - 1;
+			}
+			return new PrimitiveIterator.OfInt() {
+
+				private int cursor = start;
+
+				@Override
+				public boolean hasNext() {
+					return ascending ? cursor < size : cursor >= 0;
+				}
+
+				@Override
+				public int nextInt() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return values[ascending ? cursor++ : cursor--];
+				}
+
+			};
+		}
+
+		@Override
+		int last() {
+			return values[size - 1];
+		}
+
+		@Override
+		void remove(final int value) {
+			final int index = Arrays.binarySearch(values, 0, size, value);
+			System.arraycopy(values, index + 1, values, index, size - index - 1);
+			size--;
+		}
+
+		@Override
+		int runCount() {
+			int result = size > 0 ? 1 : 0;
+			for (int i = 1; i < size; ++i) {
+				if (values[i] != values[i - 1] + 1) {
+					result++;
+				}
+			}
+			return result;
+		}
+
+		@Override
+		Container shift(final int fromValue, final int toValue, final int delta) {
+			final int fromIndex = Arrays.binarySearch(values, 0, size, fromValue);
+			final int toIndex = Arrays.binarySearch(values, 0, size, toValue);
+			final int start = fromIndex < 0 ? -(fromIndex + 1) : fromIndex;
+			final int end = toIndex < 0 ? -(toIndex + 1) : toIndex + 1;
+			size = shiftSortedValues(values, size, start, end, delta);
+			return this;
+		}
+
+		@Override
+		void trim() {
+			if (values.length > size) {
+				values = Arrays.copyOf(values, size);
+			}
+		}
+
+	}
+
+	/**
+	 * A container of values as a bitmap spanning their range.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class BitmapContainer extends Container {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = -4002051309209052147L;
+
+		private static BitmapContainer create(final Container container) {
+			final BitmapContainer result = new BitmapContainer(container.first(), container.last());
+			for (final PrimitiveIterator.OfInt iter = container.iterator(Integer.MIN_VALUE, true); iter.hasNext();) {
+				result.set(iter.nextInt());
+			}
+			return result;
+		}
+
+		/**
+		 * Calculates the index of the word containing the bit for a given
+		 * value in a bitmap starting at a given value.
+		 *
+		 * @param base
+		 *            The value represented by the lowest bit of the bitmap.
+		 * @param value
+		 *            The value to find the word index of.
+		 * @return The word index.
+		 */
+		private static int wordIndex(final long base, final long value) {
+			return (int) (value - base >>> 6);
+		}
+
+		/**
+		 * The value represented by the lowest bit of the bitmap, which is
+		 * always a multiple of 64.
+		 */
+		private long base;
+
+		private int cardinality;
+
+		private long[] words;
+
+		private BitmapContainer(final int first, final int last) {
+			this.base = wordBase(first);
+			this.words = new long[wordIndex(base, last) + 1];
+			this.cardinality = 0;
+		}
+
+		@Override
+		boolean add(final int value) {
+			final boolean result;
+			if (value < base) {
+				final long newBase = wordBase(value);
+				final int prefixLength = wordIndex(newBase, base);
+				final long[] newWords = new long[prefixLength + words.length];
+				System.arraycopy(words, 0, newWords, prefixLength, words.length);
+				words = newWords;
+				base = newBase;
+				result = true;
+			} else {
+				final int wordIndex = wordIndex(base, value);
+				result = wordIndex >= words.length;
+				if (result) {
+					words = Arrays.copyOf(words, Math.max(wordIndex + 1, words.length + (words.length >> 1)));
+				}
+			}
+			set(value);
+			return result;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		long ceiling(final int value) {
+			long result = NO_SUCH_VALUE;
+			final long from = Math.max(value, base);
+			int wordIndex = wordIndex(base, from);
+			if (wordIndex < words.length) {
+				long word = words[wordIndex] & -1L << (from - base);
+				while (true) {
+					if (word != 0) {
+						result = base + ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word);
+						break;
+					}
+					if (++wordIndex == words.length) {
+						break;
+					}
+					word = words[wordIndex];
+				}
+			}
+			return result;
+		}
+
+		@Override
+		boolean contains(final int value) {
+			final boolean result;
+			if (value < base) {
+				result = false;
+			} else {
+				final int wordIndex = wordIndex(base, value);
+				result = wordIndex < words.length && (words[wordIndex] & 1L << (value - base)) != 0;
+			}
+			return result;
+		}
+
+		@Override
+		int first() {
+			return (int) ceiling(Integer.MIN_VALUE);
+		}
+
+		@Override
+		long floor(final int value) {
+			long result = NO_SUCH_VALUE;
+			if (value >= base) {
+				int wordIndex = wordIndex(base, value);
+				long word;
+				if (wordIndex < words.length) {
+					word = words[wordIndex] & -1L >>> 63 - (value - base & 63);
+				} else {
+					wordIndex = words.length - 1;
+					word = words[wordIndex];
+				}
+				while (true) {
+					if (word != 0) {
+						result = base + ((long) wordIndex << 6) + 63 - Long.numberOfLeadingZeros(word);
+						break;
+					}
+					if (--wordIndex < 0) {
+						break;
+					}
+					word = words[wordIndex];
+				}
+			}
+			return result;
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator(final int fromValue, final boolean ascending) {
+			return new PrimitiveIterator.OfInt() {
+
+				private long next = ascending ? ceiling(fromValue) : floor(fromValue);
+
+				@Override
+				public boolean hasNext() {
+					return next != NO_SUCH_VALUE;
+				}
+
+				@Override
+				public int nextInt() {
+					if (next == NO_SUCH_VALUE) {
+						throw new NoSuchElementException();
+					}
+					final int result = (int) next;
+					if (ascending) {
+						next = result == Integer.MAX_VALUE ? NO_SUCH_VALUE : ceiling(result + 1);
+					} else {
+						next = result == Integer.MIN_VALUE ? NO_SUCH_VALUE : floor(result - 1);
+					}
+					return result;
+				}
+
+			};
+		}
+
+		@Override
+		int last() {
+			return (int) floor(Integer.MAX_VALUE);
+		}
+
+		@Override
+		void remove(final int value) {
+			words[wordIndex(base, value)] &= ~(1L << (value - base));
+			cardinality--;
+		}
+
+		@Override
+		int runCount() {
+			int result = 0;
+			long previousWord = 0;
+			for (final long word : words) {
+				// A run starts at each set bit the preceding bit of which is
+				// not set
+				final long precedingBits = word << 1 | previousWord >>> 63;
+				result += Long.bitCount(word & ~precedingBits);
+				previousWord = word;
+			}
+			return result;
+		}
+
+		@Override
+		void trim() {
+			// The bitmap only ever spans the range of its values plus any
+			// growth slack, which is removed here
+			if (cardinality > 0) {
+				final int firstWordIndex = wordIndex(base, first());
+				final int lastWordIndex = wordIndex(base, last());
+				if (firstWordIndex > 0 || lastWordIndex < words.length - 1) {
+					words = Arrays.copyOfRange(words, firstWordIndex, lastWordIndex + 1);
+					base += (long) firstWordIndex << 6;
+				}
+			}
+		}
+
+		private void set(final int value) {
+			words[wordIndex(base, value)] |= 1L << (value - base);
+			cardinality++;
+		}
+
+		private static long wordBase(final int value) {
+			return (long) value & ~63L;
+		}
+
+	}
+
+	/**
+	 * A container of sorted values.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private abstract static class Container implements Serializable {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = -2734722474806893101L;
+
+		/**
+		 * Adds a value which is not yet in the container.
+		 *
+		 * @param value
+		 *            The value to add.
+		 * @return {@code true} iff the backing storage had to grow.
+		 */
+		abstract boolean add(int value);
+
+		/**
+		 * Adds the values in a given range of an array, which are in strictly
+		 * ascending order, skipping those already in the container.
+		 * <p>
+		 * This implementation adds each value in turn; Representations which
+		 * can merge the values in a single pass should override it.
+		 *
+		 * @param added
+		 *            The array of values to add.
+		 * @param fromIndex
+		 *            The inclusive array index of the first value to add.
+		 * @param toIndex
+		 *            The exclusive array index of the last value to add.
+		 * @return {@code true} iff the backing storage had to grow.
+		 */
+		boolean addAll(final int[] added, final int fromIndex, final int toIndex) {
+			boolean result = false;
+			for (int i = fromIndex; i < toIndex; ++i) {
+				if (!contains(added[i]) && add(added[i])) {
+					result = true;
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * @return The number of values in the container.
+		 */
+		abstract int cardinality();
+
+		abstract long ceiling(int value);
+
+		/**
+		 * Decrements each value by the number of given gaps which are less
+		 * than it.
+		 * <p>
+		 * This implementation decrements a copy of the values as a sorted
+		 * array; Representations which can decrement values in place should
+		 * override it.
+		 *
+		 * @param gaps
+		 *            The values to close, in strictly ascending order, none of
+		 *            which is in the container.
+		 * @param offset
+		 *            The amount to add to each value in the container before
+		 *            comparing it to the gaps.
+		 * @return A container with the decremented contents, which may be this
+		 *         container itself.
+		 */
+		Container closeGaps(final int[] gaps, final long offset) {
+			return ArrayContainer.create(this).closeGaps(gaps, offset).compact();
+		}
+
+		abstract boolean contains(int value);
+
+		/**
+		 * @return A container with the same contents in the representation
+		 *         which takes the least memory, which may be this container
+		 *         itself.
+		 */
+		final Container compact() {
+			final Container result;
+			final int cardinality = cardinality();
+			if (cardinality < 1) {
+				result = new ArrayContainer();
+			} else {
+				final long arrayBytes = (long) cardinality * Integer.BYTES;
+				final long bitmapBytes = (((long) last() >> 6) - ((long) first() >> 6) + 1) * Long.BYTES;
+				final long runBytes = (long) runCount() * 2 * Integer.BYTES;
+				if (arrayBytes <= bitmapBytes && arrayBytes <= runBytes) {
+					result = this instanceof ArrayContainer ? this : ArrayContainer.create(this);
+				} else if (runBytes <= bitmapBytes) {
+					result = this instanceof RunContainer ? this : RunContainer.create(this);
+				} else {
+					result = this instanceof BitmapContainer ? this : BitmapContainer.create(this);
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * @return The lowest value in the non-empty container.
+		 */
+		abstract int first();
+
+		abstract long floor(int value);
+
+		/**
+		 * Creates an iterator over the values in the container.
+		 *
+		 * @param fromValue
+		 *            The inclusive value to start iterating at.
+		 * @param ascending
+		 *            Whether to iterate in ascending or descending order.
+		 * @return A new iterator which does not support removal.
+		 */
+		abstract PrimitiveIterator.OfInt iterator(int fromValue, boolean ascending);
+
+		/**
+		 * @return The highest value in the non-empty container.
+		 */
+		abstract int last();
+
+		/**
+		 * Removes a value which is in the container.
+		 *
+		 * @param value
+		 *            The value to remove.
+		 */
+		abstract void remove(int value);
+
+		/**
+		 * @return The number of runs of consecutive values in the container.
+		 */
+		abstract int runCount();
+
+		/**
+		 * Adds a given delta to each value within a given range, merging the
+		 * shifted values with any values already at their new positions.
+		 * <p>
+		 * This implementation shifts a copy of the values as a sorted array;
+		 * Representations which can shift values in place should override it.
+		 *
+		 * @param fromValue
+		 *            The inclusive minimum of the values to shift.
+		 * @param toValue
+		 *            The inclusive maximum of the values to shift.
+		 * @param delta
+		 *            The amount to shift the values by, which must not make
+		 *            any of them overflow.
+		 * @return A container with the shifted contents, which may be this
+		 *         container itself.
+		 */
+		Container shift(final int fromValue, final int toValue, final int delta) {
+			return ArrayContainer.create(this).shift(fromValue, toValue, delta).compact();
+		}
+
+		/**
+		 * Trims the backing storage to the minimum needed for the current
+		 * contents.
+		 */
+		abstract void trim();
+
+	}
+
+	/**
+	 * A container of values as a sorted array of runs of consecutive values.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class RunContainer extends Container {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = 5710405738298484766L;
+
+		private static RunContainer create(final Container container) {
+			final int runCount = container.runCount();
+			final RunContainer result = new RunContainer(runCount);
+			for (final PrimitiveIterator.OfInt iter = container.iterator(Integer.MIN_VALUE, true); iter.hasNext();) {
+				final int value = iter.nextInt();
+				if (result.runCount > 0 && result.ends[result.runCount - 1] == value - 1) {
+					result.ends[result.runCount - 1] = value;
+				} else {
+					result.starts[result.runCount] = value;
+					result.ends[result.runCount] = value;
+					result.runCount++;
+				}
+				result.cardinality++;
+			}
+			return result;
+		}
+
+		private int cardinality;
+
+		/**
+		 * The inclusive last value of each run.
+		 */
+		private int[] ends;
+
+		private int runCount;
+
+		/**
+		 * The first value of each run.
+		 */
+		private int[] starts;
+
+		private RunContainer(final int capacity) {
+			this.starts = new int[capacity];
+			this.ends = new int[capacity];
+			this.runCount = 0;
+			this.cardinality = 0;
+		}
+
+		@Override
+		boolean add(final int value) {
+			boolean result = false;
+			final int runIndex = runIndex(value);
+			final int nextRunIndex = runIndex + 1;
+			final boolean extendsPrecedingRun = runIndex >= 0 && ends[runIndex] == value - 1;
+			final boolean extendsNextRun = nextRunIndex < runCount && starts[nextRunIndex] == value + 1;
+			if (extendsPrecedingRun) {
+				if (extendsNextRun) {
+					// The value joins two runs together
+					ends[runIndex] = ends[nextRunIndex];
+					removeRun(nextRunIndex);
+				} else {
+					ends[runIndex] = value;
+				}
+			} else if (extendsNextRun) {
+				starts[nextRunIndex] = value;
+			} else {
+				result = insertRun(nextRunIndex, value, value);
+			}
+			cardinality++;
+			return result;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		long ceiling(final int value) {
+			final int runIndex = runIndex(value);
+			final long result;
+			if (runIndex >= 0 && ends[runIndex] >= value) {
+				result = value;
+			} else {
+				final int nextRunIndex = runIndex + 1;
+				result = nextRunIndex < runCount ? starts[nextRunIndex] : NO_SUCH_VALUE;
+			}
+			return result;
+		}
+
+		@Override
+		Container closeGaps(final int[] gaps, final long offset) {
+			// No gap lies within a run, so each run is decremented as a whole
+			for (int i = 0; i < runCount; ++i) {
+				final int gapCount = countLower(gaps, (int) (starts[i] + offset));
+				starts[i] -= gapCount;
+				ends[i] -= gapCount;
+			}
+			joinAdjacentRuns();
+			return this;
+		}
+
+		@Override
+		boolean contains(final int value) {
+			final int runIndex = runIndex(value);
+			return runIndex >= 0 && ends[runIndex] >= value;
+		}
+
+		@Override
+		int first() {
+			return starts[0];
+		}
+
+		@Override
+		long floor(final int value) {
+			final int runIndex = runIndex(value);
+			final long result;
+			if (runIndex < 0) {
+				result = NO_SUCH_VALUE;
+			} else {
+				result = Math.min(value, ends[runIndex]);
+			}
+			return result;
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator(final int fromValue, final boolean ascending) {
+			return new PrimitiveIterator.OfInt() {
+
+				private long next = ascending ? ceiling(fromValue) : floor(fromValue);
+
+				private int runIndex = next == NO_SUCH_VALUE ? -1 : runIndex((int) next);
+
+				@Override
+				public boolean hasNext() {
+					return next != NO_SUCH_VALUE;
+				}
+
+				@Override
+				public int nextInt() {
+					if (next == NO_SUCH_VALUE) {
+						throw new NoSuchElementException();
+					}
+					final int result = (int) next;
+					if (ascending) {
+						if (result < ends[runIndex]) {
+							next = result + 1;
+						} else if (++runIndex < runCount) {
+							next = starts[runIndex];
+						} else {
+							next = NO_SUCH_VALUE;
+						}
+					} else {
+						if (result > starts[runIndex]) {
+							next = result - 1;
+						} else if (--runIndex >= 0) {
+							next = ends[runIndex];
+						} else {
+							next = NO_SUCH_VALUE;
+						}
+					}
+					return result;
+				}
+
+			};
+		}
+
+		@Override
+		int last() {
+			return ends[runCount - 1];
+		}
+
+		@Override
+		void remove(final int value) {
+			final int runIndex = runIndex(value);
+			final int start = starts[runIndex];
+			final int end = ends[runIndex];
+			if (start == end) {
+				removeRun(runIndex);
+			} else if (value == start) {
+				starts[runIndex] = value + 1;
+			} else if (value == end) {
+				ends[runIndex] = value - 1;
+			} else {
+				// Split the run in two
+				ends[runIndex] = value - 1;
+				insertRun(runIndex + 1, value + 1, end);
+			}
+			cardinality--;
+		}
+
+		@Override
+		int runCount() {
+			return runCount;
+		}
+
+		@Override
+		Container shift(final int fromValue, final int toValue, final int delta) {
+			// Make the range boundaries coincide with run boundaries
+			splitRun(fromValue);
+			if (toValue < Integer.MAX_VALUE) {
+				splitRun(toValue + 1);
+			}
+			final int fromIndex = Arrays.binarySearch(starts, 0, runCount, fromValue);
+			final int startRunIndex = fromIndex < 0 ? -(fromIndex + 1) : fromIndex;
+			final int endRunIndex = runIndex(toValue) + 1;
+			final Container result;
+			if (startRunIndex >= endRunIndex) {
+				result = this;
+			} else if (startRunIndex > 0 && ends[startRunIndex - 1] >= starts[startRunIndex] + delta
+					|| endRunIndex < runCount && ends[endRunIndex - 1] + delta >= starts[endRunIndex]) {
+				// The shifted runs would overlap the runs around them
+				result = super.shift(fromValue, toValue, delta);
+			} else {
+				for (int i = startRunIndex; i < endRunIndex; ++i) {
+					starts[i] += delta;
+					ends[i] += delta;
+				}
+				joinAdjacentRuns();
+				result = this;
+			}
+			return result;
+		}
+
+		@Override
+		void trim() {
+			if (starts.length > runCount) {
+				starts = Arrays.copyOf(starts, runCount);
+				ends = Arrays.copyOf(ends, runCount);
+			}
+		}
+
+		private boolean insertRun(final int runIndex, final int start, final int end) {
+			final boolean result = runCount == starts.length;
+			if (result) {
+				final int newCapacity = runCount + (runCount >> 1) + 1;
+				starts = Arrays.copyOf(starts, newCapacity);
+				ends = Arrays.copyOf(ends, newCapacity);
+			}
+			final int movedRunCount = runCount - runIndex;
+			System.arraycopy(starts, runIndex, starts, runIndex + 1, movedRunCount);
+			System.arraycopy(ends, runIndex, ends, runIndex + 1, movedRunCount);
+			starts[runIndex] = start;
+			ends[runIndex] = end;
+			runCount++;
+			return result;
+		}
+
+		private void joinAdjacentRuns() {
+			int joinedRunCount = 0;
+			for (int i = 0; i < runCount; ++i) {
+				if (joinedRunCount > 0 && ends[joinedRunCount - 1] == starts[i] - 1) {
+					ends[joinedRunCount - 1] = ends[i];
+				} else {
+					starts[joinedRunCount] = starts[i];
+					ends[joinedRunCount] = ends[i];
+					joinedRunCount++;
+				}
+			}
+			runCount = joinedRunCount;
+		}
+
+		private void removeRun(final int runIndex) {
+			final int movedRunCount = runCount - runIndex - 1;
+			System.arraycopy(starts, runIndex + 1, starts, runIndex, movedRunCount);
+			System.arraycopy(ends, runIndex + 1, ends, runIndex, movedRunCount);
+			runCount--;
+		}
+
+		/**
+		 * Splits the run containing a given value, if any, so that the value
+		 * starts a run of its own.
+		 *
+		 * @param value
+		 *            The value to split the run at.
+		 */
+		private void splitRun(final int value) {
+			final int runIndex = runIndex(value);
+			if (runIndex >= 0 && starts[runIndex] < value && value <= ends[runIndex]) {
+				final int end = ends[runIndex];
+				ends[runIndex] = value - 1;
+				insertRun(runIndex + 1, value, end);
+			}
+		}
+
+		/**
+		 * Finds the last run starting at or before a given value.
+		 *
+		 * @param value
+		 *            The value to find the run for.
+		 * @return The index of the run or {@code -1} if all runs start after
+		 *         the value.
+		 */
+		private int runIndex(final int value) {
+			final int index = Arrays.binarySearch(starts, 0, runCount, value);
+			return index >= 0 ? index : -(index + 1) - 1;
+		}
+
+	}
+
+	/**
+	 * An iterator over a {@link CompressedIntegerSet} which supports removal.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class SetIterator implements PrimitiveIterator.OfInt {
+
+		private final boolean ascending;
+
+		private PrimitiveIterator.OfInt containerIter;
+
+		private int expectedModCount;
+
+		private boolean isRemovable;
+
+		private int lastReturned;
+
+		private SetIterator(final int fromValue, final boolean ascending) {
+			this.ascending = ascending;
+			this.containerIter = containerIterator(fromValue, ascending);
+			this.expectedModCount = modCount;
+			this.isRemovable = false;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return containerIter.hasNext();
+		}
+
+		@Override
+		public int nextInt() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			lastReturned = (int) (containerIter.nextInt() + offset);
+			isRemovable = true;
+			return lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if (!isRemovable) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeInt(lastReturned);
+			isRemovable = false;
+			expectedModCount = modCount;
+			// The container may have been restructured or even replaced, so
+			// continue from the next value in a new iterator
+			if (ascending ? lastReturned == Integer.MAX_VALUE : lastReturned == Integer.MIN_VALUE) {
+				containerIter = IntStream.empty().iterator();
+			} else {
+				containerIter = containerIterator(ascending ? lastReturned + 1 : lastReturned - 1, ascending);
+			}
+		}
+
+	}
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = 4418300236716659841L;
+
+	/**
+	 * @param stored
+	 *            A value relative to the offset of a set.
+	 * @return {@code true} iff the value can be stored in the
+	 *         {@link #container}.
+	 */
+	private static boolean isStorable(final long stored) {
+		return Integer.MIN_VALUE <= stored && stored <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * The container of the elements of the set, which is not serialized
+	 * itself but rebuilt from the runs of elements written by
+	 * {@link #writeObject(ObjectOutputStream)}.
+	 */
+	private transient Container container;
+
+	/**
+	 * The number of times the set has been modified, for detecting concurrent
+	 * modification during iteration.
+	 */
+	private transient int modCount;
+
+	/**
+	 * The amount added to each value in the {@link #container} to get the
+	 * corresponding element of the set, so that shifting all the elements at
+	 * once takes constant time.
+	 */
+	private transient long offset;
+
+	/**
+	 * The cardinality of the set as of the last time its representation was
+	 * evaluated.
+	 */
+	private transient int optimizedCardinality;
+
+	public CompressedIntegerSet() {
+		this.container = new ArrayContainer();
+		this.offset = 0;
+		this.optimizedCardinality = 0;
+	}
+
+	/**
+	 * @param c
+	 *            The {@link Collection} of elements to initially add to the
+	 *            set.
+	 */
+	public CompressedIntegerSet(final Collection<? extends Integer> c) {
+		this();
+		addAll(c);
+		optimize();
+	}
+
+	@Override
+	public boolean addInt(final int value) {
+		long stored = value - offset;
+		if (!isStorable(stored)) {
+			// The value cannot be represented relative to the current offset
+			applyOffset();
+			stored = value;
+		}
+		final boolean result = !container.contains((int) stored);
+		if (result) {
+			modCount++;
+			if (container.add((int) stored)) {
+				optimize();
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean addAscending(final int[] values, final int fromIndex, final int toIndex) {
+		final int oldCardinality = container.cardinality();
+		if (fromIndex < toIndex) {
+			if (!isStorable(values[fromIndex] - offset) || !isStorable(values[toIndex - 1] - offset)) {
+				// The values cannot be represented relative to the current
+				// offset
+				applyOffset();
+			}
+			final boolean grew;
+			if (offset == 0) {
+				grew = container.addAll(values, fromIndex, toIndex);
+			} else {
+				final int[] stored = new int[toIndex - fromIndex];
+				for (int i = 0; i < stored.length; ++i) {
+					stored[i] = (int) (values[fromIndex + i] - offset);
+				}
+				grew = container.addAll(stored, 0, stored.length);
+			}
+			if (grew) {
+				optimize();
+			}
+		}
+		final boolean result = container.cardinality() != oldCardinality;
+		if (result) {
+			modCount++;
+		}
+		return result;
+	}
+
+	@Override
+	public void clear() {
+		modCount++;
+		container = new ArrayContainer();
+		offset = 0;
+		optimizedCardinality = 0;
+	}
+
+	@Override
+	public void closeGaps(final int[] gaps) {
+		if (gaps.length > 0 && !isEmpty() && lastInt() > gaps[0]) {
+			modCount++;
+			if (!isStorable((long) container.first() - gaps.length)) {
+				// The decremented values cannot be represented relative to the
+				// current offset
+				applyOffset();
+			}
+			container = container.closeGaps(gaps, offset);
+		}
+	}
+
+	@Override
+	public boolean containsInt(final int value) {
+		final long stored = value - offset;
+		return isStorable(stored) && container.contains((int) stored);
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt descendingIntIterator(final int fromValue) {
+		return new SetIterator(fromValue, false);
+	}
+
+	@Override
+	public int firstInt() {
+		if (container.cardinality() < 1) {
+			throw new NoSuchElementException();
+		}
+		return (int) (container.first() + offset);
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt intIterator(final int fromValue) {
+		return new SetIterator(fromValue, true);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return container.cardinality() < 1;
+	}
+
+	@Override
+	public int lastInt() {
+		if (container.cardinality() < 1) {
+			throw new NoSuchElementException();
+		}
+		return (int) (container.last() + offset);
+	}
+
+	/**
+	 * Converts the set to the representation which currently takes the least
+	 * memory and trims its backing storage to the minimum needed.
+	 */
+	public void optimize() {
+		container = container.compact();
+		container.trim();
+		optimizedCardinality = container.cardinality();
+	}
+
+	@Override
+	public boolean removeInt(final int value) {
+		final long stored = value - offset;
+		final boolean result = isStorable(stored) && container.contains((int) stored);
+		if (result) {
+			modCount++;
+			container.remove((int) stored);
+			if (container.cardinality() < optimizedCardinality / 2) {
+				optimize();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a given delta to each element of this set which lies within a given
+	 * range. If the range includes every element, this only changes the
+	 * offset the elements are stored relative to and so takes constant time.
+	 */
+	@Override
+	public void shiftValues(final int fromValue, final int toValue, final int delta) {
+		final long first = fromValue < toValue ? ceilingValue(fromValue) : NO_SUCH_VALUE;
+		if (delta != 0 && first != NO_SUCH_VALUE && first < toValue) {
+			final long last = floorValue(toValue - 1);
+			checkShiftedRange(first, last, delta);
+			modCount++;
+			if (first == container.first() + offset && last == container.last() + offset) {
+				offset += delta;
+			} else {
+				if (!isStorable(first - offset + delta) || !isStorable(last - offset + delta)) {
+					// The shifted values cannot be represented relative to the
+					// current offset
+					applyOffset();
+				}
+				container = container.shift((int) (first - offset), (int) (last - offset), delta);
+				if (container.cardinality() < optimizedCardinality / 2) {
+					optimize();
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return container.cardinality();
+	}
+
+	/**
+	 * Adds the {@link #offset} to each value in the {@link #container} and
+	 * resets it to zero.
+	 */
+	private void applyOffset() {
+		if (offset != 0) {
+			container = ArrayContainer.create(container, offset);
+			offset = 0;
+			optimize();
+		}
+	}
+
+	/**
+	 * Creates an iterator over the values stored in the {@link #container},
+	 * starting at the stored value of a given element. The
+	 * {@link #offset} is <em>not</em> added to the values returned.
+	 *
+	 * @param fromValue
+	 *            The inclusive element to start iterating at, which is
+	 *            converted to a stored value by subtracting the offset.
+	 * @param ascending
+	 *            Whether to iterate in ascending or descending order.
+	 * @return A new iterator which does not support removal.
+	 */
+	private PrimitiveIterator.OfInt containerIterator(final int fromValue, final boolean ascending) {
+		final long stored = fromValue - offset;
+		final PrimitiveIterator.OfInt result;
+		if (ascending ? stored > Integer.MAX_VALUE : stored < Integer.MIN_VALUE) {
+			result = IntStream.empty().iterator();
+		} else {
+			final int storedFromValue = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, stored));
+			result = container.iterator(storedFromValue, ascending);
+		}
+		return result;
+	}
+
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int[] values = readValueRuns(in);
+		container = new ArrayContainer();
+		offset = 0;
+		optimizedCardinality = 0;
+		addAscending(values, 0, values.length);
+		optimize();
+	}
+
+	/**
+	 * Writes the elements as runs of consecutive values, which is compact
+	 * regardless of the representation of the {@link #container}. The
+	 * {@link #offset} is added to each value, since it is not itself
+	 * written.
+	 *
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		writeValueRuns(out, intIterator(Integer.MIN_VALUE), size());
+	}
+
+	@Override
+	protected long ceilingValue(final int value) {
+		final long stored = Math.max(value - offset, Integer.MIN_VALUE);
+		final long result;
+		if (stored > Integer.MAX_VALUE) {
+			result = NO_SUCH_VALUE;
+		} else {
+			final long ceiling = container.ceiling((int) stored);
+			result = ceiling == NO_SUCH_VALUE ? NO_SUCH_VALUE : ceiling + offset;
+		}
+		return result;
+	}
+
+	@Override
+	protected long floorValue(final int value) {
+		final long stored = Math.min(value - offset, Integer.MAX_VALUE);
+		final long result;
+		if (stored < Integer.MIN_VALUE) {
+			result = NO_SUCH_VALUE;
+		} else {
+			final long floor = container.floor((int) stored);
+			result = floor == NO_SUCH_VALUE ? NO_SUCH_VALUE : floor + offset;
+		}
+		return result;
+	}
+
+}
@@ -15,22 +15,21 @@
  */
 package com.github.errantlinguist.collections;
 
-import java.util.TreeSet;
+import java.io.Serializable;
 import java.util.function.Supplier;
 
 /**
- * A factory for creating {@link TreeSet} instances which hold {@link Integer}
- * objects as values.
+ * A factory for creating {@link CompressedIntegerSet} instances.
  *
  * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
- * @since 2013-11-03
+ * @since 2026-10-17
  *
  */
-final class IntegerTreeSetFactory implements Supplier<TreeSet<Integer>> {
+final class CompressedIntegerSetFactory implements Supplier<CompressedIntegerSet>, Serializable {
 
 	/**
 	 * {@link SingletonHolder} is loaded on the first execution of
-	 * {@link IntegerTreeSetFactory#getInstance()} or the first access to
+	 * {@link CompressedIntegerSetFactory#getInstance()} or the first access to
 	 * {@link SingletonHolder#INSTANCE}, not before.
 	 *
 	 * @author <a href="http://www.cs.umd.edu/~pugh/">Bill Pugh</a>
@@ -39,27 +38,41 @@ final class IntegerTreeSetFactory implements Supplier<TreeSet<Integer>> {
 	 */
 	private static final class SingletonHolder {
 		/**
-		 * A singleton instance of {@link IntegerTreeSetFactory}.
+		 * A singleton instance of {@link CompressedIntegerSetFactory}.
 		 */
-		private static final IntegerTreeSetFactory INSTANCE = new IntegerTreeSetFactory();
+		private static final CompressedIntegerSetFactory INSTANCE = new CompressedIntegerSetFactory();
 	}
 
 	/**
-	 * Gets a singleton instance of {@link IntegerTreeSetFactory}.
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = -1650251981637924371L;
+
+	/**
+	 * Gets a singleton instance of {@link CompressedIntegerSetFactory}.
 	 *
 	 * @return The singleton instance.
 	 */
-	static IntegerTreeSetFactory getInstance() {
+	static CompressedIntegerSetFactory getInstance() {
 		return SingletonHolder.INSTANCE;
 	}
 
-	private IntegerTreeSetFactory() {
+	private CompressedIntegerSetFactory() {
 		// Avoid instantiation
 	}
 
 	@Override
-	public TreeSet<Integer> get() {
-		return new TreeSet<>();
+	public CompressedIntegerSet get() {
+		return new CompressedIntegerSet();
+	}
+
+	/**
+	 * Ensures that deserialization does not create another instance.
+	 *
+	 * @return The singleton instance.
+	 */
+	private Object readResolve() {
+		return getInstance();
 	}
 
 }
@@ -0,0 +1,394 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe counterpart to {@link MultiValueMap}, which decorates a
+ * {@link ConcurrentMap} having {@link Collection collections} of values for
+ * each key. Each operation on the values of a single key is atomic, being
+ * performed while holding only the lock of the decorated map for that key, so
+ * that operations on different keys proceed in parallel. A count of the
+ * number of keys each value is mapped to is kept in a concurrent multiset in
+ * order to make {@link #containsValue(Object)} constant-time.
+ * <p>
+ * The value collections must themselves be thread-safe (e.g.&nbsp;created by
+ * {@link ConcurrentHashMap#newKeySet()}) because they are returned to callers
+ * which may read them concurrently with modifications.
+ * Aggregate operations such as {@link #clear()} and {@link #putAll(Map)} are
+ * not atomic as a whole.
+ *
+ * @param <K>
+ *            The key type.
+ * @param <V>
+ *            The type of the individual values mapped to each key.
+ * @param <C>
+ *            The type of {@code Collection} object used to contain the values
+ *            for each key.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ */
+public final class ConcurrentMultiValueMap<K, V, C extends Collection<V>> implements Map<K, C>, Serializable {
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = -8236591478155385102L;
+
+	/**
+	 * The decorated {@link ConcurrentMap} instance.
+	 */
+	private final ConcurrentMap<K, C> decorated;
+
+	/**
+	 * The factory used for creating new value collections for the map keys.
+	 */
+	private final Supplier<? extends C> valueCollectionFactory;
+
+	/**
+	 * A multiset of all elements for all keys in the {@link #getDecorated()
+	 * decorated map}, mapping each element to the number of keys it is mapped
+	 * to.
+	 */
+	private final ConcurrentMap<V, Integer> valueCounts;
+
+	/**
+	 *
+	 * @param decorated
+	 *            The {@link ConcurrentMap} to decorate.
+	 * @param valueCollectionFactory
+	 *            The factory to use for creating new thread-safe value
+	 *            collections for the map keys.
+	 */
+	public ConcurrentMultiValueMap(final ConcurrentMap<K, C> decorated,
+			final Supplier<? extends C> valueCollectionFactory) {
+		this.decorated = decorated;
+		this.valueCollectionFactory = valueCollectionFactory;
+		this.valueCounts = new ConcurrentHashMap<>();
+		for (final C values : decorated.values()) {
+			incrementCounts(values);
+		}
+	}
+
+	/**
+	 *
+	 * @param valueCollectionFactory
+	 *            The factory to use for creating new thread-safe value
+	 *            collections for the map keys.
+	 */
+	public ConcurrentMultiValueMap(final Supplier<? extends C> valueCollectionFactory) {
+		this(new ConcurrentHashMap<>(), valueCollectionFactory);
+	}
+
+	/**
+	 * Removes all keys one at a time through {@link #remove(Object)}, so that
+	 * the value counts stay consistent with any values put concurrently; the
+	 * map may therefore not be empty afterwards if values were put while it
+	 * was being cleared.
+	 */
+	@Override
+	public void clear() {
+		for (final K key : decorated.keySet()) {
+			remove(key);
+		}
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return decorated.containsKey(key);
+	}
+
+	/**
+	 * Checks if a given value is mapped to a given key.
+	 *
+	 * @param key
+	 *            The key to check the values of.
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true} iff the given key maps to the given value.
+	 */
+	public boolean containsValue(final K key, final V value) {
+		final C keyValues = decorated.get(key);
+		return keyValues != null && keyValues.contains(value);
+	}
+
+	/**
+	 * Checks if a given value is mapped to any key in constant time. The count
+	 * of keys a value is mapped to is updated within the same atomic step in
+	 * which the value is added to or removed from the collection of a key, so
+	 * the result reflects every completed operation; like the iterators of
+	 * {@link ConcurrentHashMap}, it may or may not reflect operations still in
+	 * progress in other threads.
+	 *
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true} iff the value is mapped to at least one key.
+	 */
+	@Override
+	public boolean containsValue(final Object value) {
+		return valueCounts.containsKey(value);
+	}
+
+	@Override
+	public Set<Entry<K, C>> entrySet() {
+		return decorated.entrySet();
+	}
+
+	@Override
+	public C get(final Object key) {
+		return decorated.get(key);
+	}
+
+	/**
+	 * @return An unmodifiable view of a {@link Set} of all elements for all
+	 *         keys in the {@link #getDecorated() decorated map}.
+	 */
+	public Set<V> getAllValues() {
+		return Collections.unmodifiableSet(valueCounts.keySet());
+	}
+
+	/**
+	 * @return An unmodifiable view of the decorated {@link ConcurrentMap}
+	 *         instance.
+	 */
+	public Map<K, C> getDecorated() {
+		return Collections.unmodifiableMap(decorated);
+	}
+
+	/**
+	 * Returns all value elements mapped to a key, atomically creating an
+	 * empty value collection for the key if there is none.
+	 *
+	 * @param key
+	 *            The key to get all the elements for.
+	 * @return A {@link Collection} of elements; if there is no mapping for the
+	 *         given key, then an empty {@code Collection} is returned.
+	 */
+	public C getValues(final K key) {
+		return decorated.computeIfAbsent(key, k -> valueCollectionFactory.get());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (decorated == null ? 0 : decorated.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return decorated.isEmpty();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return decorated.keySet();
+	}
+
+	@Override
+	public C put(final K key, final C value) {
+		final Object[] result = new Object[1];
+		decorated.compute(key, (k, oldValues) -> {
+			if (oldValues != null) {
+				decrementCounts(oldValues);
+			}
+			incrementCounts(value);
+			result[0] = oldValues;
+			return value;
+		});
+		@SuppressWarnings("unchecked")
+		final C oldValues = (C) result[0];
+		return oldValues;
+	}
+
+	@Override
+	public void putAll(final Map<? extends K, ? extends C> m) {
+		for (final Entry<? extends K, ? extends C> entry : m.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Atomically adds a value for a given key.
+	 *
+	 * @param key
+	 *            The key to add the new value to.
+	 * @param value
+	 *            The value to add.
+	 * @return {@code true} iff the value was successfully added.
+	 */
+	public boolean putValue(final K key, final V value) {
+		final boolean[] result = new boolean[1];
+		decorated.compute(key, (k, oldValues) -> {
+			final C values = oldValues == null ? valueCollectionFactory.get() : oldValues;
+			if (values.add(value)) {
+				incrementCount(value);
+				result[0] = true;
+			}
+			return values;
+		});
+		return result[0];
+	}
+
+	/**
+	 * Atomically adds values for a given key.
+	 *
+	 * @param key
+	 *            The key to add the new values to.
+	 * @param values
+	 *            The values to add.
+	 * @return {@code true} if at least one value was successfully added.
+	 */
+	public boolean putValues(final K key, final Collection<? extends V> values) {
+		final boolean[] result = new boolean[1];
+		decorated.compute(key, (k, oldValues) -> {
+			final C keyValues = oldValues == null ? valueCollectionFactory.get() : oldValues;
+			for (final V value : values) {
+				if (keyValues.add(value)) {
+					incrementCount(value);
+					result[0] = true;
+				}
+			}
+			return keyValues;
+		});
+		return result[0];
+	}
+
+	@Override
+	public C remove(final Object key) {
+		final Object[] result = new Object[1];
+		@SuppressWarnings("unchecked")
+		final K castKey = (K) key;
+		// Decrement the counts in the same atomic step as the removal so that
+		// no concurrent operation on the key can come in between
+		decorated.computeIfPresent(castKey, (k, oldValues) -> {
+			decrementCounts(oldValues);
+			result[0] = oldValues;
+			return null;
+		});
+		@SuppressWarnings("unchecked")
+		final C oldValues = (C) result[0];
+		return oldValues;
+	}
+
+	/**
+	 * Atomically removes a given value mapped to a given key.
+	 *
+	 * @param key
+	 *            The key to remove the given mapped value for.
+	 * @param value
+	 *            The value to remove from the {@link Collection} of values
+	 *            mapped to the given key.
+	 * @return {@code true} iff the value was successfully removed.
+	 */
+	public boolean removeValue(final K key, final V value) {
+		final boolean[] result = new boolean[1];
+		decorated.computeIfPresent(key, (k, values) -> {
+			if (values.remove(value)) {
+				decrementCount(value);
+				result[0] = true;
+			}
+			return values;
+		});
+		return result[0];
+	}
+
+	/**
+	 * Atomically removes given values mapped to a given key.
+	 *
+	 * @param key
+	 *            The key to remove the given mapped value for.
+	 * @param values
+	 *            The values to remove from the {@link Collection} of values
+	 *            mapped to the given key.
+	 * @return {@code true} if at least one value was successfully removed.
+	 */
+	public boolean removeValues(final K key, final Collection<? extends V> values) {
+		final boolean[] result = new boolean[1];
+		decorated.computeIfPresent(key, (k, keyValues) -> {
+			for (final V value : values) {
+				if (keyValues.remove(value)) {
+					decrementCount(value);
+					result[0] = true;
+				}
+			}
+			return keyValues;
+		});
+		return result[0];
+	}
+
+	@Override
+	public int size() {
+		return decorated.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("ConcurrentMultiValueMap [decorated=");
+		builder.append(decorated);
+		builder.append(", valueCollectionFactory=");
+		builder.append(valueCollectionFactory);
+		builder.append("]");
+		return builder.toString();
+	}
+
+	@Override
+	public Collection<C> values() {
+		return decorated.values();
+	}
+
+	private void decrementCount(final V value) {
+		valueCounts.computeIfPresent(value, (v, count) -> count > 1 ? count - 1 : null);
+	}
+
+	private void decrementCounts(final Collection<? extends V> values) {
+		for (final V value : values) {
+			decrementCount(value);
+		}
+	}
+
+	private void incrementCount(final V value) {
+		valueCounts.merge(value, 1, Integer::sum);
+	}
+
+	private void incrementCounts(final Collection<? extends V> values) {
+		for (final V value : values) {
+			incrementCount(value);
+		}
+	}
+
+}
@@ -0,0 +1,545 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A {@link Map} of non-negative {@link Integer} keys, e.g.&nbsp;identifiers
+ * from a dense range, which stores each value at the index of its key in a
+ * single array rather than decorating another {@code Map}. Whether a key is
+ * mapped at all is recorded in a bitmap so that {@code null} values can be
+ * told apart from absent keys. Both grow geometrically to fit the highest key
+ * put into the map.
+ * <p>
+ * This takes about half the memory of a {@link ReverseLookupIntegerKeyMap} for
+ * dense keys and {@link #get(int)} creates no garbage, but the memory used is
+ * proportional to the highest key rather than to the number of keys.
+ *
+ * @param <V>
+ *            The value type.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class DenseIntegerKeyMap<V> extends AbstractMap<Integer, V> implements Serializable {
+
+	/**
+	 * An iterator over the entries of a {@link DenseIntegerKeyMap} in
+	 * ascending key order.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class EntryIterator implements Iterator<Entry<Integer, V>> {
+
+		private int expectedModCount = modCount;
+
+		/**
+		 * The key last returned or {@code -1} if there is none which can be
+		 * removed.
+		 */
+		private int lastReturned = -1;
+
+		/**
+		 * The next key to return or {@code -1} if there is none.
+		 */
+		private int next = nextKey(0);
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0;
+		}
+
+		@Override
+		public Entry<Integer, V> next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next < 0) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = nextKey(next + 1);
+			return new KeyEntry(lastReturned);
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeKey(lastReturned);
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+	}
+
+	/**
+	 * An unmodifiable {@link List} view of the values of a
+	 * {@link DenseIntegerKeyMap} indexed by their keys.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class IndexedValueList extends AbstractList<V> implements RandomAccess {
+
+		@Override
+		public V get(final int index) {
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+			}
+			return DenseIntegerKeyMap.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return length;
+		}
+
+	}
+
+	/**
+	 * An entry of a {@link DenseIntegerKeyMap} which writes through to the
+	 * map.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class KeyEntry implements Entry<Integer, V> {
+
+		private final int key;
+
+		private KeyEntry(final int key) {
+			this.key = key;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Entry)) {
+				return false;
+			}
+			final Entry<?, ?> other = (Entry<?, ?>) obj;
+			return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+		}
+
+		@Override
+		public Integer getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return get(key);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return key ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public V setValue(final V value) {
+			if (!containsKey(key)) {
+				throw new IllegalStateException("Entry has been removed.");
+			}
+			return put(key, value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+
+	}
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private static final long[] EMPTY_PRESENCE_WORDS = new long[0];
+
+	private static final Object[] EMPTY_VALUES = new Object[0];
+
+	/**
+	 * The largest array size which can be allocated on all VMs.
+	 */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = 4839168075120384463L;
+
+	private static void checkKey(final int key) {
+		if (key < 0) {
+			throw new IllegalArgumentException("Key must be non-negative: " + key);
+		}
+	}
+
+	/**
+	 * @param capacity
+	 *            A number of keys.
+	 * @return The number of bitmap words needed for the given number of keys.
+	 */
+	private static int wordCount(final int capacity) {
+		return (capacity + Long.SIZE - 1) >>> 6;
+	}
+
+	/**
+	 * The highest key in the map plus one.
+	 */
+	private int length;
+
+	/**
+	 * The number of times the map has been structurally modified, for
+	 * detecting concurrent modification during iteration.
+	 */
+	private transient int modCount;
+
+	/**
+	 * A bitmap of the keys which are mapped.
+	 */
+	private long[] presenceWords;
+
+	/**
+	 * The number of keys in the map.
+	 */
+	private int size;
+
+	/**
+	 * The value for each key at the index of the key.
+	 */
+	private Object[] values;
+
+	public DenseIntegerKeyMap() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity
+	 *            The number of keys starting from zero which can be put into
+	 *            the map before it has to grow.
+	 */
+	public DenseIntegerKeyMap(final int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.values = initialCapacity == 0 ? EMPTY_VALUES : new Object[initialCapacity];
+		this.presenceWords = initialCapacity == 0 ? EMPTY_PRESENCE_WORDS : new long[wordCount(initialCapacity)];
+		this.size = 0;
+		this.length = 0;
+	}
+
+	/**
+	 * @param m
+	 *            The {@link Map} of entries to initially put into the map.
+	 */
+	public DenseIntegerKeyMap(final Map<? extends Integer, ? extends V> m) {
+		this(0);
+		putAll(m);
+	}
+
+	@Override
+	public void clear() {
+		modCount++;
+		Arrays.fill(values, 0, length, null);
+		Arrays.fill(presenceWords, 0, wordCount(length), 0L);
+		size = 0;
+		length = 0;
+	}
+
+	/**
+	 * Checks if a given key is mapped.
+	 *
+	 * @param key
+	 *            The key to check.
+	 * @return {@code true} iff the key is mapped to a value, even if the value
+	 *         is {@code null}.
+	 */
+	public boolean containsKey(final int key) {
+		return key >= 0 && key < length && (presenceWords[key >> 6] & 1L << key) != 0;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return key instanceof Integer && containsKey(((Integer) key).intValue());
+	}
+
+	@Override
+	public boolean containsValue(final Object value) {
+		boolean result = false;
+		for (int key = nextKey(0); key >= 0; key = nextKey(key + 1)) {
+			if (Objects.equals(value, values[key])) {
+				result = true;
+				break;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Set<Entry<Integer, V>> entrySet() {
+		return new AbstractSet<Entry<Integer, V>>() {
+
+			@Override
+			public void clear() {
+				DenseIntegerKeyMap.this.clear();
+			}
+
+			@Override
+			public boolean contains(final Object o) {
+				final boolean result;
+				if (o instanceof Entry) {
+					final Entry<?, ?> entry = (Entry<?, ?>) o;
+					result = containsKey(entry.getKey()) && Objects.equals(get(entry.getKey()), entry.getValue());
+				} else {
+					result = false;
+				}
+				return result;
+			}
+
+			@Override
+			public Iterator<Entry<Integer, V>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+		};
+	}
+
+	/**
+	 * Gets the value for a given key without boxing it.
+	 *
+	 * @param key
+	 *            The key to get the value for.
+	 * @return The value mapped to the key or {@code null} if there is none.
+	 */
+	public V get(final int key) {
+		final V result;
+		if (key >= 0 && key < length) {
+			@SuppressWarnings("unchecked")
+			final V value = (V) values[key];
+			result = value;
+		} else {
+			result = null;
+		}
+		return result;
+	}
+
+	@Override
+	public V get(final Object key) {
+		return key instanceof Integer ? get(((Integer) key).intValue()) : null;
+	}
+
+	/**
+	 * @return An unmodifiable view of the values of the map as a {@link List}
+	 *         indexed by their keys, which is as long as the highest key plus
+	 *         one and which has {@code null} at the index of each key which is
+	 *         not mapped.
+	 */
+	public List<V> getIndexedValues() {
+		return new IndexedValueList();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size < 1;
+	}
+
+	/**
+	 * Puts a value for a given key without boxing the key.
+	 *
+	 * @param key
+	 *            The non-negative key to put the value for.
+	 * @param value
+	 *            The value to put.
+	 * @return The value previously mapped to the key or {@code null} if there
+	 *         was none.
+	 * @throws IllegalArgumentException
+	 *             If the key is negative.
+	 */
+	public V put(final int key, final V value) {
+		checkKey(key);
+		ensureCapacity(key + 1);
+		@SuppressWarnings("unchecked")
+		final V result = (V) values[key];
+		values[key] = value;
+		final long bit = 1L << key;
+		final int wordIndex = key >> 6;
+		if ((presenceWords[wordIndex] & bit) == 0) {
+			presenceWords[wordIndex] |= bit;
+			size++;
+			modCount++;
+			if (key >= length) {
+				length = key + 1;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public V put(final Integer key, final V value) {
+		return put(key.intValue(), value);
+	}
+
+	@Override
+	public void putAll(final Map<? extends Integer, ? extends V> m) {
+		if (!m.isEmpty()) {
+			// Grow only once for all the new keys
+			final int maxKey = Collections.max(m.keySet());
+			checkKey(maxKey);
+			ensureCapacity(maxKey + 1);
+			for (final Entry<? extends Integer, ? extends V> entry : m.entrySet()) {
+				put(entry.getKey().intValue(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Removes the mapping for a given key without boxing the key.
+	 *
+	 * @param key
+	 *            The key to remove the mapping for.
+	 * @return The value previously mapped to the key or {@code null} if there
+	 *         was none.
+	 */
+	public V remove(final int key) {
+		final V result = get(key);
+		if (containsKey(key)) {
+			removeKey(key);
+		}
+		return result;
+	}
+
+	@Override
+	public V remove(final Object key) {
+		return key instanceof Integer ? remove(((Integer) key).intValue()) : null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Trims the capacity of the map to the highest key currently in it.
+	 */
+	public void trimToSize() {
+		if (values.length > length) {
+			values = length == 0 ? EMPTY_VALUES : Arrays.copyOf(values, length);
+			presenceWords = length == 0 ? EMPTY_PRESENCE_WORDS : Arrays.copyOf(presenceWords, wordCount(length));
+		}
+	}
+
+	private void ensureCapacity(final int minCapacity) {
+		final int oldCapacity = values.length;
+		if (minCapacity > oldCapacity) {
+			if (minCapacity > MAX_CAPACITY) {
+				throw new OutOfMemoryError("Required capacity too large: " + minCapacity);
+			}
+			final long grownCapacity = Math.max(DEFAULT_INITIAL_CAPACITY, oldCapacity + ((long) oldCapacity >> 1));
+			final int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, grownCapacity));
+			values = Arrays.copyOf(values, newCapacity);
+			presenceWords = Arrays.copyOf(presenceWords, wordCount(newCapacity));
+		}
+	}
+
+	/**
+	 * Finds the lowest key in the map at or above a given key.
+	 *
+	 * @param fromKey
+	 *            The non-negative key to start searching at.
+	 * @return The next key or {@code -1} if there is none.
+	 */
+	private int nextKey(final int fromKey) {
+		int result = -1;
+		if (fromKey < length) {
+			int wordIndex = fromKey >> 6;
+			long word = presenceWords[wordIndex] & -1L << fromKey;
+			final int wordCount = wordCount(length);
+			while (true) {
+				if (word != 0) {
+					result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+					break;
+				}
+				if (++wordIndex >= wordCount) {
+					break;
+				}
+				word = presenceWords[wordIndex];
+			}
+		}
+		return result;
+	}
+
+	private void removeKey(final int key) {
+		values[key] = null;
+		presenceWords[key >> 6] &= ~(1L << key);
+		size--;
+		modCount++;
+		if (key == length - 1) {
+			// Find the new highest key
+			int wordIndex = key >> 6;
+			while (wordIndex >= 0 && presenceWords[wordIndex] == 0) {
+				wordIndex--;
+			}
+			length = wordIndex < 0 ? 0
+					: (wordIndex << 6) + Long.SIZE - Long.numberOfLeadingZeros(presenceWords[wordIndex]);
+		}
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+
+/**
+ * An index of the positions at which each element of a given {@link List}
+ * occurs. The index is notified of each structural change <em>after</em> the
+ * change has been made to the indexed {@code List}.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+interface ElementPositionIndex extends Serializable {
+
+	/**
+	 * @return A view of the index as a {@link Map} of each element to the
+	 *         positions at which it occurs.
+	 */
+	Map<Object, NavigableSet<Integer>> asMap();
+
+	/**
+	 * Finds the first position of a given element at or after a given
+	 * position.
+	 *
+	 * @param element
+	 *            The element to look up.
+	 * @param position
+	 *            The position to start searching at.
+	 * @return The lowest position of the element which is not less than the
+	 *         given position or {@code -1} if there is none.
+	 */
+	int ceilingPosition(Object element, int position);
+
+	/**
+	 * Notifies the index that the indexed {@link List} has been cleared.
+	 */
+	void cleared();
+
+	/**
+	 * Checks if a given element occurs in the indexed {@link List}.
+	 *
+	 * @param element
+	 *            The element to check.
+	 * @return {@code true} iff the element occurs at least once.
+	 */
+	boolean containsElement(Object element);
+
+	/**
+	 * Finds the first position of a given element.
+	 *
+	 * @param element
+	 *            The element to look up.
+	 * @return The lowest position of the element or {@code -1} if it does not
+	 *         occur in the indexed {@link List}.
+	 */
+	int firstPosition(Object element);
+
+	/**
+	 * Finds the last position of a given element at or before a given
+	 * position.
+	 *
+	 * @param element
+	 *            The element to look up.
+	 * @param position
+	 *            The position to start searching at.
+	 * @return The highest position of the element which is not greater than
+	 *         the given position or {@code -1} if there is none.
+	 */
+	int floorPosition(Object element, int position);
+
+	/**
+	 * Notifies the index that elements have been inserted into the indexed
+	 * {@link List}.
+	 *
+	 * @param position
+	 *            The position of the first inserted element.
+	 * @param count
+	 *            The number of elements inserted.
+	 */
+	void inserted(int position, int count);
+
+	/**
+	 * Finds the last position of a given element.
+	 *
+	 * @param element
+	 *            The element to look up.
+	 * @return The highest position of the element or {@code -1} if it does not
+	 *         occur in the indexed {@link List}.
+	 */
+	int lastPosition(Object element);
+
+	/**
+	 * Rebuilds the entire index from the current state of the indexed
+	 * {@link List}.
+	 */
+	void rebuild();
+
+	/**
+	 * Notifies the index that an element has been removed from the indexed
+	 * {@link List}.
+	 *
+	 * @param position
+	 *            The position at which the element was before its removal.
+	 * @param element
+	 *            The removed element.
+	 */
+	void removed(int position, Object element);
+
+	/**
+	 * Notifies the index that a number of elements have been removed from the
+	 * indexed {@link List} at once.
+	 *
+	 * @param positions
+	 *            The positions at which the elements were before their
+	 *            removal, in strictly ascending order.
+	 * @param elements
+	 *            The removed elements, in the same order as their positions.
+	 */
+	void removedAll(int[] positions, List<?> elements);
+
+	/**
+	 * Notifies the index that the element at a given position of the indexed
+	 * {@link List} has been replaced.
+	 *
+	 * @param position
+	 *            The position of the replaced element.
+	 * @param oldElement
+	 *            The element previously at the given position.
+	 */
+	void replaced(int position, Object oldElement);
+
+}
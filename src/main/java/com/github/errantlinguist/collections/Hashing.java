@@ -0,0 +1,64 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+/**
+ * Functions for spreading the bits of {@link Object#hashCode() hash codes} so
+ * that they can be used directly as indices into hash tables and bit sets.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+final class Hashing {
+
+	/**
+	 * Spreads the bits of a hash code so that keys with hash codes differing
+	 * only in their high bits do not collide in a small table.
+	 *
+	 * @param hashCode
+	 *            The hash code to spread.
+	 * @return The spread hash code.
+	 */
+	static int mix(final int hashCode) {
+		final int h = hashCode * 0x9E3779B9;
+		return h ^ h >>> 16;
+	}
+
+	/**
+	 * Spreads the bits of a hash code over 64 bits using the finalization
+	 * step of MurmurHash3, so that every bit of the result depends on every
+	 * bit of the input.
+	 *
+	 * @param hashCode
+	 *            The hash code to spread.
+	 * @return The spread hash code.
+	 */
+	static long mix64(final long hashCode) {
+		long h = hashCode;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private Hashing() {
+		// Avoid instantiation
+	}
+
+}
@@ -0,0 +1,321 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * An estimator of the number of distinct elements added to it which uses the
+ * HyperLogLog algorithm: It holds <code>2<sup>precision</sup></code> one-byte
+ * registers regardless of how many elements are added, with a relative
+ * standard error of about <code>1.04 / &radic;2<sup>precision</sup></code>,
+ * e.g.&nbsp;16 KiB and 0.81% for the {@link #DEFAULT_PRECISION default
+ * precision}, and without a systematic bias across the range of
+ * cardinalities (see {@link #estimate()}). Estimators with the same precision can be
+ * {@link #merge(HyperLogLog) merged}, so that the elements of different
+ * partitions can be counted separately and the counts then combined.
+ * <p>
+ * Elements are hashed using their {@link Object#hashCode() hash codes}, so
+ * distinct elements with equal hash codes are counted as one.
+ * </p>
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class HyperLogLog implements Serializable {
+
+	public static final int DEFAULT_PRECISION = 14;
+
+	public static final int MAX_PRECISION = 18;
+
+	public static final int MIN_PRECISION = 4;
+
+	/**
+	 * The bias correction constant of the raw estimate for an infinite number
+	 * of registers.
+	 */
+	private static final double ASYMPTOTIC_ALPHA = 0.5 / Math.log(2.0);
+
+	/**
+	 * The cardinality up to which linear counting is more accurate than the
+	 * register estimate for each precision from {@link #MIN_PRECISION} to
+	 * {@link #MAX_PRECISION}, as determined empirically for HyperLogLog++.
+	 */
+	private static final int[] LINEAR_COUNTING_THRESHOLDS = { 10, 20, 40, 80, 220, 400, 900, 1800, 3100, 6500,
+			11500, 20000, 50000, 120000, 350000 };
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = 6012465519839170353L;
+
+	/**
+	 * Returns a {@link Collector} which adds all the elements of a stream to a
+	 * new {@link HyperLogLog} with a given precision, merging the estimators
+	 * of a parallel stream.
+	 *
+	 * @param precision
+	 *            The number of hash bits used to choose a register.
+	 * @return A new {@code Collector}.
+	 */
+	public static final Collector<Object, ?, HyperLogLog> toHyperLogLog(final int precision) {
+		checkPrecision(precision);
+		return Collector.of(() -> new HyperLogLog(precision), HyperLogLog::add, HyperLogLog::merge,
+				Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+	}
+
+	private static void checkPrecision(final int precision) {
+		if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+			throw new IllegalArgumentException(String.format("Precision %d not in range [%d, %d].", precision,
+					MIN_PRECISION, MAX_PRECISION));
+		}
+	}
+
+	/**
+	 * Computes the correction for the registers which are still zero in the
+	 * improved raw estimator of Ertl (2017).
+	 *
+	 * @param x
+	 *            The ratio of zero registers to all registers.
+	 * @return <code>x + &sum;<sub>k&ge;1</sub> x<sup>2<sup>k</sup></sup>
+	 *         2<sup>k-1</sup></code>.
+	 */
+	private static double sigma(final double x) {
+		if (x == 1.0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		double power = x;
+		double weight = 1.0;
+		double result = x;
+		double previous;
+		do {
+			power *= power;
+			previous = result;
+			result += power * weight;
+			weight += weight;
+		} while (result != previous);
+		return result;
+	}
+
+	/**
+	 * Computes the correction for the registers which have reached the
+	 * maximum rank in the improved raw estimator of Ertl (2017).
+	 *
+	 * @param x
+	 *            The ratio of registers below the maximum rank to all
+	 *            registers.
+	 * @return <code>(1 - x - &sum;<sub>k&ge;1</sub> (1 -
+	 *         x<sup>2<sup>-k</sup></sup>)<sup>2</sup> 2<sup>-k</sup>) /
+	 *         3</code>.
+	 */
+	private static double tau(final double x) {
+		if (x == 0.0 || x == 1.0) {
+			return 0.0;
+		}
+		double root = x;
+		double weight = 1.0;
+		double result = 1.0 - x;
+		double previous;
+		do {
+			root = Math.sqrt(root);
+			previous = result;
+			weight *= 0.5;
+			result -= (1.0 - root) * (1.0 - root) * weight;
+		} while (result != previous);
+		return result / 3.0;
+	}
+
+
+	private final int precision;
+
+	/**
+	 * The largest rank, i.e.&nbsp;position of the first set bit after the
+	 * register index bits, of the hash of any element added to each register.
+	 */
+	private final byte[] registers;
+
+	public HyperLogLog() {
+		this(DEFAULT_PRECISION);
+	}
+
+	/**
+	 * @param precision
+	 *            The number of hash bits used to choose a register, which
+	 *            determines both the number of registers and the accuracy of
+	 *            the estimate.
+	 * @throws IllegalArgumentException
+	 *             If the precision is less than {@link #MIN_PRECISION} or
+	 *             greater than {@link #MAX_PRECISION}.
+	 */
+	public HyperLogLog(final int precision) {
+		checkPrecision(precision);
+		this.precision = precision;
+		this.registers = new byte[1 << precision];
+	}
+
+	/**
+	 * Adds an element to the estimate.
+	 *
+	 * @param element
+	 *            The element to add, which may be {@code null}.
+	 */
+	public void add(final Object element) {
+		final long hash = Hashing.mix64(Objects.hashCode(element));
+		final int index = (int) (hash >>> Long.SIZE - precision);
+		// Guarantee a set bit so that the rank cannot exceed the bits left
+		final long remainingBits = hash << precision | 1L << precision - 1;
+		final byte rank = (byte) (Long.numberOfLeadingZeros(remainingBits) + 1);
+		if (rank > registers[index]) {
+			registers[index] = rank;
+		}
+	}
+
+	/**
+	 * Adds all the elements of an {@link Iterable} to the estimate.
+	 *
+	 * @param elements
+	 *            The elements to add.
+	 */
+	public void addAll(final Iterable<?> elements) {
+		for (final Object element : elements) {
+			add(element);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof HyperLogLog)) {
+			return false;
+		}
+		final HyperLogLog other = (HyperLogLog) obj;
+		if (precision != other.precision) {
+			return false;
+		}
+		if (!Arrays.equals(registers, other.registers)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Estimates the number of distinct elements added: Linear counting of the
+	 * zero registers is used up to the threshold for the precision at which
+	 * HyperLogLog++ switches to the register estimate; Above it, the improved
+	 * raw estimator of Ertl (2017) is used, which corrects for the zero and
+	 * saturated registers analytically and so is not biased near the
+	 * threshold as the original HyperLogLog estimate is.
+	 *
+	 * @return The estimated number of distinct elements added.
+	 */
+	public long estimate() {
+		final int registerCount = registers.length;
+		final int maxRank = Long.SIZE - precision + 1;
+		final int[] rankCounts = new int[maxRank + 1];
+		for (final byte rank : registers) {
+			rankCounts[rank]++;
+		}
+		final int zeroRegisterCount = rankCounts[0];
+		if (zeroRegisterCount > 0) {
+			final double linearCount = registerCount * Math.log(registerCount / (double) zeroRegisterCount);
+			if (linearCount <= LINEAR_COUNTING_THRESHOLDS[precision - MIN_PRECISION]) {
+				return Math.round(linearCount);
+			}
+		}
+		double z = registerCount * tau(1.0 - rankCounts[maxRank] / (double) registerCount);
+		for (int rank = maxRank - 1; rank > 0; --rank) {
+			z = 0.5 * (z + rankCounts[rank]);
+		}
+		z += registerCount * sigma(zeroRegisterCount / (double) registerCount);
+		return Math.round(ASYMPTOTIC_ALPHA * registerCount * registerCount / z);
+	}
+
+	/**
+	 * @return The number of hash bits used to choose a register.
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + precision;
+		result = prime * result + Arrays.hashCode(registers);
+		return result;
+	}
+
+	/**
+	 * Merges the registers of another estimator into this one, so that this
+	 * estimator then estimates the number of distinct elements added to
+	 * either.
+	 *
+	 * @param other
+	 *            The estimator to merge, which is not modified.
+	 * @return This estimator.
+	 * @throws IllegalArgumentException
+	 *             If the other estimator has a different precision.
+	 */
+	public HyperLogLog merge(final HyperLogLog other) {
+		if (other.precision != precision) {
+			throw new IllegalArgumentException(String.format("Cannot merge precision %d into precision %d.",
+					other.precision, precision));
+		}
+		for (int i = 0; i < registers.length; ++i) {
+			if (other.registers[i] > registers[i]) {
+				registers[i] = other.registers[i];
+			}
+		}
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(48);
+		builder.append("HyperLogLog [precision=");
+		builder.append(precision);
+		builder.append(", estimate=");
+		builder.append(estimate());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -15,11 +15,18 @@
  */
 package com.github.errantlinguist.collections;
 
+import java.nio.IntBuffer;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
 import java.util.Set;
 
 /**
@@ -32,6 +39,278 @@ import java.util.Set;
  */
 public final class IntegerIterable {
 
+	/**
+	 * An unmodifiable view of a {@link Collection} of {@link Integer} objects
+	 * which adds a given amount to each element on access.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class IncrementedCollection extends AbstractCollection<Integer> {
+
+		private final Collection<Integer> backing;
+
+		private final int increment;
+
+		private IncrementedCollection(final Collection<Integer> backing, final int increment) {
+			this.backing = backing;
+			this.increment = increment;
+		}
+
+		@Override
+		public boolean contains(final Object o) {
+			return o instanceof Integer && backing.contains((Integer) o - increment);
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new IncrementedIterator(backing.iterator(), increment);
+		}
+
+		@Override
+		public int size() {
+			return backing.size();
+		}
+
+	}
+
+	/**
+	 * An unmodifiable view of an {@link Iterable} of {@link Integer} objects
+	 * which adds a given amount to each element on access.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class IncrementedIterable implements Iterable<Integer> {
+
+		private final Iterable<Integer> backing;
+
+		private final int increment;
+
+		private IncrementedIterable(final Iterable<Integer> backing, final int increment) {
+			this.backing = backing;
+			this.increment = increment;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new IncrementedIterator(backing.iterator(), increment);
+		}
+
+	}
+
+	/**
+	 * An iterator which adds a given amount to each element of another
+	 * iterator.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class IncrementedIterator implements PrimitiveIterator.OfInt {
+
+		private final Iterator<Integer> backing;
+
+		private final int increment;
+
+		private IncrementedIterator(final Iterator<Integer> backing, final int increment) {
+			this.backing = backing;
+			this.increment = increment;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return backing.hasNext();
+		}
+
+		@Override
+		public int nextInt() {
+			return backing.next() + increment;
+		}
+
+	}
+
+	/**
+	 * An unmodifiable view of a {@link List} of {@link Integer} objects which
+	 * adds a given amount to each element on access.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static class IncrementedList extends AbstractList<Integer> {
+
+		private final List<Integer> backing;
+
+		private final int increment;
+
+		private IncrementedList(final List<Integer> backing, final int increment) {
+			this.backing = backing;
+			this.increment = increment;
+		}
+
+		@Override
+		public boolean contains(final Object o) {
+			return o instanceof Integer && backing.contains((Integer) o - increment);
+		}
+
+		@Override
+		public Integer get(final int index) {
+			return backing.get(index) + increment;
+		}
+
+		@Override
+		public int indexOf(final Object o) {
+			return o instanceof Integer ? backing.indexOf((Integer) o - increment) : -1;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new IncrementedIterator(backing.iterator(), increment);
+		}
+
+		@Override
+		public int lastIndexOf(final Object o) {
+			return o instanceof Integer ? backing.lastIndexOf((Integer) o - increment) : -1;
+		}
+
+		@Override
+		public int size() {
+			return backing.size();
+		}
+
+	}
+
+	/**
+	 * An unmodifiable view of a {@link NavigableSet} of {@link Integer}
+	 * objects which adds a given amount to each element on access, preserving
+	 * their order as long as no incremented element overflows.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class IncrementedNavigableSet extends AbstractIntegerNavigableSet {
+
+		private final NavigableSet<Integer> backing;
+
+		private final int increment;
+
+		private IncrementedNavigableSet(final NavigableSet<Integer> backing, final int increment) {
+			this.backing = backing;
+			this.increment = increment;
+		}
+
+		@Override
+		public boolean containsInt(final int value) {
+			final long backingValue = (long) value - increment;
+			return Integer.MIN_VALUE <= backingValue && backingValue <= Integer.MAX_VALUE
+					&& backing.contains((int) backingValue);
+		}
+
+		@Override
+		public PrimitiveIterator.OfInt descendingIntIterator(final int fromValue) {
+			final long backingValue = (long) fromValue - increment;
+			final PrimitiveIterator.OfInt result;
+			if (backingValue < Integer.MIN_VALUE) {
+				result = new IncrementedIterator(backing.headSet(Integer.MIN_VALUE, false).iterator(), increment);
+			} else {
+				result = new IncrementedIterator(backing
+						.headSet((int) Math.min(backingValue, Integer.MAX_VALUE), true).descendingIterator(),
+						increment);
+			}
+			return result;
+		}
+
+		@Override
+		public PrimitiveIterator.OfInt intIterator(final int fromValue) {
+			final long backingValue = (long) fromValue - increment;
+			final PrimitiveIterator.OfInt result;
+			if (backingValue > Integer.MAX_VALUE) {
+				result = new IncrementedIterator(backing.tailSet(Integer.MAX_VALUE, false).iterator(), increment);
+			} else {
+				result = new IncrementedIterator(
+						backing.tailSet((int) Math.max(backingValue, Integer.MIN_VALUE), true).iterator(), increment);
+			}
+			return result;
+		}
+
+		@Override
+		public int size() {
+			return backing.size();
+		}
+
+		@Override
+		protected long ceilingValue(final int value) {
+			final long backingValue = (long) value - increment;
+			final Integer ceiling = backingValue > Integer.MAX_VALUE ? null
+					: backing.ceiling((int) Math.max(backingValue, Integer.MIN_VALUE));
+			return ceiling == null ? NO_SUCH_VALUE : ceiling.longValue() + increment;
+		}
+
+		@Override
+		protected long floorValue(final int value) {
+			final long backingValue = (long) value - increment;
+			final Integer floor = backingValue < Integer.MIN_VALUE ? null
+					: backing.floor((int) Math.min(backingValue, Integer.MAX_VALUE));
+			return floor == null ? NO_SUCH_VALUE : floor.longValue() + increment;
+		}
+
+	}
+
+	/**
+	 * An unmodifiable view of a {@link Set} of {@link Integer} objects which
+	 * adds a given amount to each element on access.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class IncrementedSet extends AbstractSet<Integer> {
+
+		private final Set<Integer> backing;
+
+		private final int increment;
+
+		private IncrementedSet(final Set<Integer> backing, final int increment) {
+			this.backing = backing;
+			this.increment = increment;
+		}
+
+		@Override
+		public boolean contains(final Object o) {
+			return o instanceof Integer && backing.contains((Integer) o - increment);
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new IncrementedIterator(backing.iterator(), increment);
+		}
+
+		@Override
+		public int size() {
+			return backing.size();
+		}
+
+	}
+
+	/**
+	 * A {@link RandomAccess} counterpart to {@link IncrementedList}.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class RandomAccessIncrementedList extends IncrementedList implements RandomAccess {
+
+		private RandomAccessIncrementedList(final List<Integer> backing, final int increment) {
+			super(backing, increment);
+		}
+
+	}
+
 	/**
 	 * Increments all the {@link Integer} elements of a given {@link Collection}
 	 * by a given amount.
@@ -53,6 +332,78 @@ public final class IntegerIterable {
 		return result;
 	}
 
+	/**
+	 * Increments all the elements of a given array by a given amount in
+	 * place.
+	 *
+	 * @param values
+	 *            The array to increment the elements of.
+	 * @param increment
+	 *            The value to add to each element.
+	 */
+	public static final void incrementValues(final int[] values, final int increment) {
+		incrementValues(values, 0, values.length, increment);
+	}
+
+	/**
+	 * Increments a range of the elements of a given array by a given amount
+	 * in place. The loop is a simple counted one which the JIT compiler can
+	 * vectorize.
+	 *
+	 * @param values
+	 *            The array to increment the elements of.
+	 * @param fromIndex
+	 *            The inclusive index of the first element to increment.
+	 * @param toIndex
+	 *            The exclusive index of the last element to increment.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             If the range is outside of the array.
+	 * @throws IllegalArgumentException
+	 *             If {@code fromIndex > toIndex}.
+	 */
+	public static final void incrementValues(final int[] values, final int fromIndex, final int toIndex,
+			final int increment) {
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+		if (fromIndex < 0) {
+			throw new ArrayIndexOutOfBoundsException(fromIndex);
+		}
+		if (toIndex > values.length) {
+			throw new ArrayIndexOutOfBoundsException(toIndex);
+		}
+		for (int i = fromIndex; i < toIndex; ++i) {
+			values[i] += increment;
+		}
+	}
+
+	/**
+	 * Increments the remaining elements of a given {@link IntBuffer}, i.e.
+	 * those between its position and its limit, by a given amount in place
+	 * without changing its position.
+	 *
+	 * @param values
+	 *            The buffer to increment the elements of.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             If the buffer is read-only.
+	 */
+	public static final void incrementValues(final IntBuffer values, final int increment) {
+		final int position = values.position();
+		final int limit = values.limit();
+		if (values.hasArray()) {
+			final int offset = values.arrayOffset();
+			incrementValues(values.array(), offset + position, offset + limit, increment);
+		} else {
+			for (int i = position; i < limit; ++i) {
+				values.put(i, values.get(i) + increment);
+			}
+		}
+	}
+
 	/**
 	 * Increments all the {@link Integer} elements of a given {@link Iterable}
 	 * by a given amount.
@@ -65,7 +416,7 @@ public final class IntegerIterable {
 	 * @return A new {@link List} of the elements with the given added value.
 	 */
 	public static final List<Integer> incrementValues(final Iterable<Integer> valuesToIncrement, final int increment) {
-		final List<Integer> result = new LinkedList<>();
+		final List<Integer> result = new ArrayList<>();
 
 		incrementValues(valuesToIncrement, increment, result);
 
@@ -116,6 +467,96 @@ public final class IntegerIterable {
 		return result;
 	}
 
+	/**
+	 * Returns an unmodifiable view of a given {@link Collection} of
+	 * {@link Integer} objects which adds a given amount to each element on
+	 * access rather than copying them as
+	 * {@link #incrementValues(Collection, int)} does; It is created in
+	 * constant time and reflects later changes to the given collection.
+	 *
+	 * @param values
+	 *            The {@code Collection} to view.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @return A new view of the given collection.
+	 */
+	public static final Collection<Integer> incrementedView(final Collection<Integer> values, final int increment) {
+		return new IncrementedCollection(values, increment);
+	}
+
+	/**
+	 * Returns an unmodifiable view of a given {@link Iterable} of
+	 * {@link Integer} objects which adds a given amount to each element on
+	 * access rather than copying them as
+	 * {@link #incrementValues(Iterable, int)} does.
+	 *
+	 * @param values
+	 *            The {@code Iterable} to view.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @return A new view of the given iterable.
+	 */
+	public static final Iterable<Integer> incrementedView(final Iterable<Integer> values, final int increment) {
+		return new IncrementedIterable(values, increment);
+	}
+
+	/**
+	 * Returns an unmodifiable view of a given {@link List} of {@link Integer}
+	 * objects which adds a given amount to each element on access; It is
+	 * {@link RandomAccess} iff the given list is.
+	 *
+	 * @param values
+	 *            The {@code List} to view.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @return A new view of the given list.
+	 */
+	public static final List<Integer> incrementedView(final List<Integer> values, final int increment) {
+		return values instanceof RandomAccess ? new RandomAccessIncrementedList(values, increment)
+				: new IncrementedList(values, increment);
+	}
+
+	/**
+	 * Returns an unmodifiable view of a given {@link NavigableSet} of
+	 * {@link Integer} objects which adds a given amount to each element on
+	 * access, keeping them in the same order; No incremented element may
+	 * overflow the range of {@code int}.
+	 *
+	 * @param values
+	 *            The {@code NavigableSet} to view, which must use the natural
+	 *            ordering of its elements.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @return A new view of the given set.
+	 */
+	public static final NavigableSet<Integer> incrementedView(final NavigableSet<Integer> values,
+			final int increment) {
+		assert values.comparator() == null;
+		return new IncrementedNavigableSet(values, increment);
+	}
+
+	/**
+	 * Returns an unmodifiable view of a given {@link Set} of {@link Integer}
+	 * objects which adds a given amount to each element on access; If the set
+	 * is a naturally-ordered {@link NavigableSet}, the view is as well.
+	 *
+	 * @param values
+	 *            The {@code Set} to view.
+	 * @param increment
+	 *            The value to add to each element.
+	 * @return A new view of the given set.
+	 * @see #incrementedView(NavigableSet, int)
+	 */
+	public static final Set<Integer> incrementedView(final Set<Integer> values, final int increment) {
+		final Set<Integer> result;
+		if (values instanceof NavigableSet && ((NavigableSet<Integer>) values).comparator() == null) {
+			result = new IncrementedNavigableSet((NavigableSet<Integer>) values, increment);
+		} else {
+			result = new IncrementedSet(values, increment);
+		}
+		return result;
+	}
+
 	private IntegerIterable() {
 		// Avoid instantiation
 	}
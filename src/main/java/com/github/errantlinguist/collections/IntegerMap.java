@@ -46,6 +46,20 @@ public final class IntegerMap {
 		}
 	}
 
+	/**
+	 * Increments all the values of a given {@link ObjectIntMap} by a given
+	 * amount without boxing them.
+	 *
+	 * @param map
+	 *            The {@code ObjectIntMap} to increment the values of.
+	 * @param increment
+	 *            The value to add to each element.
+	 */
+	public static final <K> void incrementValues(final ObjectIntMap<K> map, final int increment) {
+		assert map != null;
+		map.incrementAll(increment);
+	}
+
 	private IntegerMap() {
 		// Avoid instantiation
 	}
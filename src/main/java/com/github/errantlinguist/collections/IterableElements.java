@@ -17,7 +17,17 @@ package com.github.errantlinguist.collections;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * A utility class for manipulating {@link Collection} elements.
@@ -28,6 +38,207 @@ import java.util.Set;
  */
 public final class IterableElements {
 
+	/**
+	 * A Bloom filter of element hash codes backed by a bit array whose size
+	 * is fixed when it is created, which can tell for certain if an element
+	 * has <em>not</em> been added to it before.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class BloomFilter {
+
+		private static final double LN_2 = Math.log(2.0);
+
+		/**
+		 * The maximum number of {@code long} words in the bit array.
+		 */
+		private static final int MAX_WORD_COUNT = Integer.MAX_VALUE - 8;
+
+		private final long bitCount;
+
+		private final int hashCount;
+
+		private final long[] words;
+
+		/**
+		 * @param expectedSize
+		 *            The number of distinct elements expected to be added.
+		 * @param falsePositiveProbability
+		 *            The desired probability of {@link #add(Object)} wrongly
+		 *            returning {@code false} for a new element after the
+		 *            expected number of elements have been added.
+		 * @throws IllegalArgumentException
+		 *             If the expected size is negative or the probability is
+		 *             not between {@code 0} and {@code 1} exclusive.
+		 */
+		private BloomFilter(final long expectedSize, final double falsePositiveProbability) {
+			if (expectedSize < 0) {
+				throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+			}
+			if (!(falsePositiveProbability > 0.0 && falsePositiveProbability < 1.0)) {
+				throw new IllegalArgumentException(
+						"Illegal false positive probability: " + falsePositiveProbability);
+			}
+			final double optimalBitCount = -Math.max(1L, expectedSize) * Math.log(falsePositiveProbability)
+					/ (LN_2 * LN_2);
+			final long wordCount = Math.min(MAX_WORD_COUNT, ((long) Math.ceil(optimalBitCount) + 63) / 64);
+			words = new long[(int) Math.max(1L, wordCount)];
+			bitCount = words.length * 64L;
+			hashCount = Math.max(1, (int) Math.ceil(-Math.log(falsePositiveProbability) / LN_2));
+		}
+
+		/**
+		 * Adds an element to the filter.
+		 *
+		 * @param element
+		 *            The element to add.
+		 * @return {@code true} iff no element with the same hash bits had been
+		 *         added before, in which case the element is definitely new;
+		 *         {@code false} if the element might have been added before.
+		 */
+		private boolean add(final Object element) {
+			final long hash = Hashing.mix64(Objects.hashCode(element));
+			final long hash1 = (int) hash;
+			final long hash2 = (int) (hash >>> 32);
+			boolean result = false;
+			for (int i = 0; i < hashCount; ++i) {
+				final long bitIndex = (hash1 + i * hash2 & Long.MAX_VALUE) % bitCount;
+				final int wordIndex = (int) (bitIndex >>> 6);
+				final long mask = 1L << bitIndex;
+				if ((words[wordIndex] & mask) == 0L) {
+					words[wordIndex] |= mask;
+					result = true;
+				}
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * Adds a range of the elements of a {@link RandomAccess} list to a shared
+	 * concurrent set, splitting the range in half until it is small enough
+	 * and stopping all tasks as soon as any of them finds a duplicate.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class UniquenessTask extends RecursiveAction {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = 3383095634478052247L;
+
+		private final AtomicBoolean duplicateFound;
+
+		private final int fromIndex;
+
+		private final int leafSize;
+
+		private final List<?> list;
+
+		private final Set<Object> seenElements;
+
+		private final int toIndex;
+
+		private UniquenessTask(final List<?> list, final int fromIndex, final int toIndex, final int leafSize,
+				final Set<Object> seenElements, final AtomicBoolean duplicateFound) {
+			this.list = list;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.leafSize = leafSize;
+			this.seenElements = seenElements;
+			this.duplicateFound = duplicateFound;
+		}
+
+		@Override
+		protected void compute() {
+			if (toIndex - fromIndex > leafSize) {
+				final int midIndex = fromIndex + toIndex >>> 1;
+				invokeAll(new UniquenessTask(list, fromIndex, midIndex, leafSize, seenElements, duplicateFound),
+						new UniquenessTask(list, midIndex, toIndex, leafSize, seenElements, duplicateFound));
+			} else {
+				for (int i = fromIndex; i < toIndex && !duplicateFound.get(); ++i) {
+					final Object element = list.get(i);
+					// ConcurrentHashMap does not permit null keys
+					if (!seenElements.add(element == null ? NULL_ELEMENT : element)) {
+						duplicateFound.set(true);
+					}
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Creates the union of a range of an array of collections, splitting the
+	 * range in half until it contains few enough elements and then merging
+	 * the resulting sets by adding the smaller to the larger.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class UnionTask<E> extends RecursiveTask<Set<E>> {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = -1425302745934766290L;
+
+		private final Collection<? extends E>[] collections;
+
+		private final int fromIndex;
+
+		private final int toIndex;
+
+		private UnionTask(final Collection<? extends E>[] collections, final int fromIndex, final int toIndex) {
+			this.collections = collections;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		protected Set<E> compute() {
+			long elementCount = 0;
+			for (int i = fromIndex; i < toIndex; ++i) {
+				elementCount += collections[i].size();
+			}
+			final Set<E> result;
+			if (toIndex - fromIndex < 2 || elementCount <= MIN_PARALLEL_ELEMENT_COUNT) {
+				result = new HashSet<>((int) Math.min(Integer.MAX_VALUE - 8, elementCount * 4 / 3 + 1));
+				for (int i = fromIndex; i < toIndex; ++i) {
+					result.addAll(collections[i]);
+				}
+			} else {
+				final int midIndex = fromIndex + toIndex >>> 1;
+				final UnionTask<E> right = new UnionTask<>(collections, midIndex, toIndex);
+				right.fork();
+				final Set<E> left = new UnionTask<>(collections, fromIndex, midIndex).compute();
+				result = union(left, right.join());
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * The minimum number of elements in the collections united by a single
+	 * task of {@link #createAllElementSet(Collection, ForkJoinPool)} for them
+	 * to be split further.
+	 */
+	private static final int MIN_PARALLEL_ELEMENT_COUNT = 1 << 14;
+
+	/**
+	 * A placeholder for {@code null} elements in sets which do not permit
+	 * them.
+	 */
+	private static final Object NULL_ELEMENT = new Object();
+
 	/**
 	 * Adds all elements from an arbitrary number of {@link Collection} objects
 	 * to a single given {@link Collection} instance.
@@ -75,6 +286,83 @@ public final class IterableElements {
 		return areElementsUnique(iterable, uniqueElements);
 	}
 
+	/**
+	 * Checks if all the elements in a given {@link Iterable} are unique,
+	 * i.e.&nbsp;that no element occurs more than once, using a fixed amount of
+	 * memory for the elements which are definitely unique: A first pass adds
+	 * each element to a Bloom filter, which holds only a few bits per element,
+	 * and keeps only those elements which the filter reports as possibly
+	 * having been seen before. A second pass then checks these suspected
+	 * duplicates exactly. The result is always exact; the false positive
+	 * probability only determines how many suspected duplicates are held in
+	 * memory.
+	 *
+	 * @param iterable
+	 *            The {@code Iterable} to check, which must return the same
+	 *            elements each time it is iterated over.
+	 * @param expectedSize
+	 *            The expected number of elements.
+	 * @param falsePositiveProbability
+	 *            The probability of the Bloom filter wrongly reporting a unique
+	 *            element as a suspected duplicate.
+	 * @return {@code true} iff there are no elements with more than one
+	 *         reference in the {@code Iterable}.
+	 * @throws IllegalArgumentException
+	 *             If the expected size is negative or the probability is not
+	 *             between {@code 0} and {@code 1} exclusive.
+	 */
+	public static final boolean areElementsUnique(final Iterable<?> iterable, final long expectedSize,
+			final double falsePositiveProbability) {
+		final BloomFilter filter = new BloomFilter(expectedSize, falsePositiveProbability);
+		final Set<Object> suspectedDuplicates = new HashSet<>();
+		for (final Object element : iterable) {
+			// An element suspected twice has definitely occurred twice
+			if (!filter.add(element) && !suspectedDuplicates.add(element)) {
+				return false;
+			}
+		}
+		if (!suspectedDuplicates.isEmpty()) {
+			final Set<Object> verifiedElements = new HashSet<>();
+			for (final Object element : iterable) {
+				if (suspectedDuplicates.contains(element) && !verifiedElements.add(element)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if all the elements in a given {@link List} are unique,
+	 * i.e.&nbsp;that no element occurs more than once, using the threads of a
+	 * given {@link ForkJoinPool} if the list is large and supports
+	 * {@link RandomAccess fast random access}. All the tasks stop as soon as
+	 * any of them finds a duplicate.
+	 *
+	 * @param list
+	 *            The {@code List} to check, which may not be modified while it
+	 *            is being checked.
+	 * @param pool
+	 *            The pool to check the list in.
+	 * @return {@code true} iff there are no elements with more than one
+	 *         reference in the {@code List}.
+	 */
+	public static final boolean areElementsUnique(final List<?> list, final ForkJoinPool pool) {
+		final int size = list.size();
+		final int parallelism = pool.getParallelism();
+		final boolean result;
+		if (list instanceof RandomAccess && parallelism > 1 && size > MIN_PARALLEL_ELEMENT_COUNT) {
+			final Set<Object> seenElements = ConcurrentHashMap.newKeySet(size);
+			final AtomicBoolean duplicateFound = new AtomicBoolean(false);
+			final int leafSize = Math.max(MIN_PARALLEL_ELEMENT_COUNT, size / (parallelism * 4));
+			pool.invoke(new UniquenessTask(list, 0, size, leafSize, seenElements, duplicateFound));
+			result = !duplicateFound.get();
+		} else {
+			result = areElementsUnique((Collection<?>) list);
+		}
+		return result;
+	}
+
 	/**
 	 * Gets the sum of all the elements of an arbitrary number of
 	 * {@link Collection} objects.
@@ -105,6 +393,27 @@ public final class IterableElements {
 		return createAllElementSet(upcast, totalElementCount);
 	}
 
+	/**
+	 * Creates a {@link Set} of all the elements of a given {@link Collection}
+	 * of collections using the threads of a given {@link ForkJoinPool}: Each
+	 * task creates a set of the elements of a contiguous group of the
+	 * collections and the sets of the tasks are merged pairwise by adding the
+	 * smaller to the larger.
+	 *
+	 * @param collections
+	 *            The collections to get the elements of, none of which may be
+	 *            modified while the set is being created.
+	 * @param pool
+	 *            The pool to create the set in.
+	 * @return A new {@code Set} of all the elements.
+	 */
+	public static final <E> Set<E> createAllElementSet(final Collection<? extends Collection<E>> collections,
+			final ForkJoinPool pool) {
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		final Collection<? extends E>[] collectionArray = collections.toArray(new Collection[collections.size()]);
+		return pool.invoke(new UnionTask<>(collectionArray, 0, collectionArray.length));
+	}
+
 	public static final <E> Set<E> createAllElementSet(final Iterable<? extends Collection<E>> collections,
 			final int totalElementCount) {
 		final Set<E> result = new HashSet<>(totalElementCount);
@@ -114,6 +423,76 @@ public final class IterableElements {
 		return result;
 	}
 
+	/**
+	 * Estimates the number of distinct elements in an arbitrary number of
+	 * {@link Collection} objects without creating a set of them.
+	 *
+	 * @param precision
+	 *            The {@link HyperLogLog#getPrecision() precision} of the
+	 *            estimate.
+	 * @param collections
+	 *            The collections to count the distinct elements of.
+	 * @return The estimated number of distinct elements in all the
+	 *         collections.
+	 * @see HyperLogLog
+	 */
+	public static final long estimateDistinctElementCount(final int precision,
+			final Collection<?>... collections) {
+		final HyperLogLog estimator = new HyperLogLog(precision);
+		for (final Collection<?> collection : collections) {
+			estimator.addAll(collection);
+		}
+		return estimator.estimate();
+	}
+
+	/**
+	 * Estimates the number of distinct elements in an {@link Iterable} without
+	 * creating a set of them.
+	 *
+	 * @param iterable
+	 *            The {@code Iterable} to count the distinct elements of.
+	 * @param precision
+	 *            The {@link HyperLogLog#getPrecision() precision} of the
+	 *            estimate.
+	 * @return The estimated number of distinct elements.
+	 * @see HyperLogLog
+	 */
+	public static final long estimateDistinctElementCount(final Iterable<?> iterable, final int precision) {
+		final HyperLogLog estimator = new HyperLogLog(precision);
+		estimator.addAll(iterable);
+		return estimator.estimate();
+	}
+
+	/**
+	 * Estimates the number of distinct elements in a {@link Stream} without
+	 * creating a set of them, estimating those of each part of a parallel
+	 * stream separately and then merging the estimates.
+	 *
+	 * @param stream
+	 *            The {@code Stream} to count the distinct elements of.
+	 * @param precision
+	 *            The {@link HyperLogLog#getPrecision() precision} of the
+	 *            estimate.
+	 * @return The estimated number of distinct elements.
+	 * @see HyperLogLog
+	 */
+	public static final long estimateDistinctElementCount(final Stream<?> stream, final int precision) {
+		return stream.collect(HyperLogLog.toHyperLogLog(precision)).estimate();
+	}
+
+	/**
+	 * Returns a {@link Collector} which collects all the elements of a stream
+	 * of collections into a single {@link java.util.HashSet HashSet}, merging
+	 * the partial sets of a parallel stream by adding the smaller to the
+	 * larger.
+	 *
+	 * @return A new {@code Collector}.
+	 */
+	public static final <E> Collector<Collection<? extends E>, ?, Set<E>> toAllElementSet() {
+		return Collector.of(HashSet::new, Set::addAll, IterableElements::union, Collector.Characteristics.UNORDERED,
+				Collector.Characteristics.IDENTITY_FINISH);
+	}
+
 	/**
 	 * Checks if all the elements in a given {@link Iterable} are unique,
 	 * i.e.&nbsp;that no element occurs more than once.
@@ -141,6 +520,29 @@ public final class IterableElements {
 		return result;
 	}
 
+	/**
+	 * Merges two sets by adding the elements of the smaller one to the larger
+	 * one.
+	 *
+	 * @param first
+	 *            A set to merge.
+	 * @param second
+	 *            Another set to merge.
+	 * @return The larger of the two sets, now containing all the elements of
+	 *         both.
+	 */
+	private static <E> Set<E> union(final Set<E> first, final Set<E> second) {
+		final Set<E> result;
+		if (first.size() < second.size()) {
+			second.addAll(first);
+			result = second;
+		} else {
+			first.addAll(second);
+			result = first;
+		}
+		return result;
+	}
+
 	private IterableElements() {
 		// Avoid instantiation
 	}
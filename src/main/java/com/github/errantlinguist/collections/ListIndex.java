@@ -16,9 +16,10 @@
 package com.github.errantlinguist.collections;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -26,8 +27,12 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NavigableSet;
+import java.util.RandomAccess;
 import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * A utility class for manipulating {@link List} indices.
@@ -38,6 +43,199 @@ import java.util.TreeSet;
  */
 public final class ListIndex {
 
+	/**
+	 * Indexes a range of chunks of a {@link List}, splitting the range in half
+	 * until it consists of a single chunk.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class ChunkIndexingTask extends RecursiveAction {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = 3254867108291506383L;
+
+		private final int chunkSize;
+
+		/**
+		 * The index of each element in each chunk, each of which is set by
+		 * exactly one task.
+		 */
+		private final Map<Object, PositionBuffer>[] chunkIndices;
+
+		private final int fromChunk;
+
+		private final List<?> list;
+
+		private final int toChunk;
+
+		private ChunkIndexingTask(final List<?> list, final int chunkSize,
+				final Map<Object, PositionBuffer>[] chunkIndices, final int fromChunk, final int toChunk) {
+			this.list = list;
+			this.chunkSize = chunkSize;
+			this.chunkIndices = chunkIndices;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (toChunk - fromChunk > 1) {
+				final int midChunk = fromChunk + toChunk >>> 1;
+				invokeAll(new ChunkIndexingTask(list, chunkSize, chunkIndices, fromChunk, midChunk),
+						new ChunkIndexingTask(list, chunkSize, chunkIndices, midChunk, toChunk));
+			} else {
+				final int start = fromChunk * chunkSize;
+				final int end = (int) Math.min(list.size(), (long) start + chunkSize);
+				final Map<Object, PositionBuffer> chunkIndex = new HashMap<>();
+				for (int i = start; i < end; ++i) {
+					chunkIndex.computeIfAbsent(list.get(i), k -> new PositionBuffer()).add(i);
+				}
+				chunkIndices[fromChunk] = chunkIndex;
+			}
+		}
+
+	}
+
+	/**
+	 * Creates the index collection of each of a range of elements by
+	 * concatenating the positions found for it in each chunk, splitting the
+	 * range in half until it is small enough.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class IndexCollectionTask<C extends Collection<Integer>> extends RecursiveAction {
+
+		/**
+		 * The generated serial version UID.
+		 */
+		private static final long serialVersionUID = -5190587364925113704L;
+
+		/**
+		 * The maximum number of elements for which index collections are
+		 * created by a single task.
+		 */
+		private static final int ELEMENT_BATCH_SIZE = 1024;
+
+		/**
+		 * The positions of each element in each chunk in which it occurs, in
+		 * chunk order.
+		 */
+		private final List<PositionBuffer>[] elementChunkPositions;
+
+		private final int fromElement;
+
+		private final Supplier<? extends C> indexCollectionFactory;
+
+		/**
+		 * The index collection created for each element.
+		 */
+		private final Object[] indexCollections;
+
+		private final int toElement;
+
+		private IndexCollectionTask(final List<PositionBuffer>[] elementChunkPositions,
+				final Supplier<? extends C> indexCollectionFactory, final Object[] indexCollections,
+				final int fromElement, final int toElement) {
+			this.elementChunkPositions = elementChunkPositions;
+			this.indexCollectionFactory = indexCollectionFactory;
+			this.indexCollections = indexCollections;
+			this.fromElement = fromElement;
+			this.toElement = toElement;
+		}
+
+		@Override
+		protected void compute() {
+			if (toElement - fromElement > ELEMENT_BATCH_SIZE) {
+				final int midElement = fromElement + toElement >>> 1;
+				invokeAll(
+						new IndexCollectionTask<>(elementChunkPositions, indexCollectionFactory, indexCollections,
+								fromElement, midElement),
+						new IndexCollectionTask<>(elementChunkPositions, indexCollectionFactory, indexCollections,
+								midElement, toElement));
+			} else {
+				for (int i = fromElement; i < toElement; ++i) {
+					indexCollections[i] = createIndexCollection(elementChunkPositions[i]);
+				}
+			}
+		}
+
+		private C createIndexCollection(final List<PositionBuffer> chunkPositions) {
+			final C result = indexCollectionFactory.get();
+			if (result instanceof AbstractIntegerNavigableSet) {
+				// The chunks are in list order, so their concatenation is
+				// already sorted
+				final int[] positions;
+				final int count;
+				if (chunkPositions.size() == 1) {
+					final PositionBuffer buffer = chunkPositions.get(0);
+					positions = buffer.values;
+					count = buffer.size;
+				} else {
+					int totalCount = 0;
+					for (final PositionBuffer buffer : chunkPositions) {
+						totalCount += buffer.size;
+					}
+					positions = new int[totalCount];
+					count = totalCount;
+					int offset = 0;
+					for (final PositionBuffer buffer : chunkPositions) {
+						System.arraycopy(buffer.values, 0, positions, offset, buffer.size);
+						offset += buffer.size;
+					}
+				}
+				((AbstractIntegerNavigableSet) result).addAscending(positions, 0, count);
+			} else {
+				for (final PositionBuffer buffer : chunkPositions) {
+					for (int i = 0; i < buffer.size; ++i) {
+						result.add(buffer.values[i]);
+					}
+				}
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * A growable array of the positions of an element in a chunk of a list.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class PositionBuffer {
+
+		private int size = 0;
+
+		private int[] values = new int[4];
+
+		private void add(final int position) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size + (size >> 1) + 1);
+			}
+			values[size++] = position;
+		}
+
+	}
+
+	/**
+	 * The maximum capacity of an {@link ArrayList} supported by common virtual
+	 * machines.
+	 */
+	private static final int MAX_LIST_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * The minimum number of list elements indexed by a single task of
+	 * {@link #createListIndexMapInParallel(List, Supplier, ForkJoinPool)}.
+	 */
+	private static final int MIN_PARALLEL_CHUNK_SIZE = 1 << 14;
+
 	public static final <E> List<E> createListFromIndexMap(final Map<? extends Integer, ? extends E> elementIndices) {
 		assert elementIndices != null;
 		final List<E> result = new ArrayList<>(elementIndices.size());
@@ -47,12 +245,72 @@ public final class ListIndex {
 		return result;
 	}
 
+	/**
+	 * Creates a {@link List} with each of a given sequence of elements at the
+	 * corresponding index in a parallel array of indices and {@code null} at
+	 * every other index, without boxing the indices.
+	 *
+	 * @param indices
+	 *            The non-negative index of each element.
+	 * @param elements
+	 *            The elements to put at each index.
+	 * @return A new {@code List} with a size of the greatest index plus one.
+	 * @throws IllegalArgumentException
+	 *             If the number of indices and of elements differ.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative or too large for a list.
+	 */
+	public static final <E> List<E> createListFromIndexMap(final int[] indices, final List<? extends E> elements) {
+		// Validate the arguments before allocating a list as long as the
+		// greatest index
+		checkIndexedElementCount(indices, elements);
+		final int maxIndex = maxIndex(indices);
+		if (maxIndex >= MAX_LIST_CAPACITY) {
+			throw new IndexOutOfBoundsException("Index: " + maxIndex);
+		}
+		final List<E> result = new ArrayList<>(maxIndex + 1);
+
+		setIndexedElements(result, indices, elements);
+
+		return result;
+	}
+
+	/**
+	 * Creates a {@link MultiValueMap} of each element in a given {@link List}
+	 * to the indices at which it occurs, stored as
+	 * {@link CompressedIntegerSet} instances in order to avoid boxing each
+	 * index.
+	 *
+	 * @param list
+	 *            The {@code List} to index.
+	 * @return A new {@code MultiValueMap} which does not track
+	 *         {@link MultiValueMap#getAllValues() all its values} separately.
+	 */
 	public static final MultiValueMap<Object, Integer, NavigableSet<Integer>> createListIndexMap(
 			final List<? extends Object> list) {
+		return createListIndexMap(list, CompressedIntegerSetFactory.getInstance());
+	}
+
+	/**
+	 * Creates a {@link MultiValueMap} of each element in a given {@link List}
+	 * to the indices at which it occurs.
+	 *
+	 * @param list
+	 *            The {@code List} to index.
+	 * @param indexCollectionFactory
+	 *            The factory to use for creating new index collections for each
+	 *            element.
+	 * @return A new {@code MultiValueMap} which does not track
+	 *         {@link MultiValueMap#getAllValues() all its values} separately.
+	 */
+	public static final <C extends Collection<Integer>> MultiValueMap<Object, Integer, C> createListIndexMap(
+			final List<? extends Object> list, final Supplier<? extends C> indexCollectionFactory) {
 		assert list != null;
-		final Map<Object, NavigableSet<Integer>> decoratedMap = new HashMap<>(list.size());
-		final MultiValueMap<Object, Integer, NavigableSet<Integer>> result = new MultiValueMap<>(decoratedMap,
-				IntegerTreeSetFactory.getInstance());
+		final Map<Object, C> decoratedMap = new HashMap<>();
+		// Every index is unique, so there is no use in keeping another set of
+		// all of them
+		final MultiValueMap<Object, Integer, C> result = new MultiValueMap<>(decoratedMap, indexCollectionFactory,
+				false);
 
 		for (final ListIterator<? extends Object> listIter = list.listIterator(); listIter.hasNext();) {
 			final int nextIndex = listIter.nextIndex();
@@ -63,6 +321,102 @@ public final class ListIndex {
 		return result;
 	}
 
+	/**
+	 * Creates a {@link MultiValueMap} of each element in a given {@link List}
+	 * to the indices at which it occurs like {@link #createListIndexMap(List)}
+	 * but using all the threads of the {@link ForkJoinPool#commonPool() common
+	 * pool}.
+	 *
+	 * @param list
+	 *            The {@code List} to index.
+	 * @return A new {@code MultiValueMap} which does not track
+	 *         {@link MultiValueMap#getAllValues() all its values} separately.
+	 * @see #createListIndexMapInParallel(List, Supplier, ForkJoinPool)
+	 */
+	public static final MultiValueMap<Object, Integer, NavigableSet<Integer>> createListIndexMapInParallel(
+			final List<? extends Object> list) {
+		return createListIndexMapInParallel(list, CompressedIntegerSetFactory.getInstance(),
+				ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a {@link MultiValueMap} of each element in a given {@link List}
+	 * to the indices at which it occurs using the threads of a given
+	 * {@link ForkJoinPool}: The list is split into contiguous chunks, each of
+	 * which is indexed by a separate task, and then the index collection of
+	 * each element is created from the concatenation of its positions in each
+	 * chunk, which are thus already in ascending order. If the list is not
+	 * {@link RandomAccess} or is too small to be worth splitting, it is indexed
+	 * sequentially as by {@link #createListIndexMap(List, Supplier)}.
+	 * <p>
+	 * The list must not be structurally modified while it is being indexed
+	 * and the factory must be safe for use by multiple threads.
+	 *
+	 * @param list
+	 *            The {@code List} to index.
+	 * @param indexCollectionFactory
+	 *            The factory to use for creating new index collections for each
+	 *            element.
+	 * @param pool
+	 *            The pool to index the list in.
+	 * @return A new {@code MultiValueMap} which does not track
+	 *         {@link MultiValueMap#getAllValues() all its values} separately.
+	 */
+	public static final <C extends Collection<Integer>> MultiValueMap<Object, Integer, C> createListIndexMapInParallel(
+			final List<? extends Object> list, final Supplier<? extends C> indexCollectionFactory,
+			final ForkJoinPool pool) {
+		assert list != null;
+		final int size = list.size();
+		final MultiValueMap<Object, Integer, C> result;
+		if (!(list instanceof RandomAccess) || size < MIN_PARALLEL_CHUNK_SIZE * 2 || pool.getParallelism() < 2) {
+			result = createListIndexMap(list, indexCollectionFactory);
+		} else {
+			// Use a few chunks per thread so that the threads are kept busy
+			// even if some chunks take longer than others
+			final int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE,
+					(int) ((size + pool.getParallelism() * 4L - 1) / (pool.getParallelism() * 4L)));
+			final int chunkCount = (int) ((size + (long) chunkSize - 1) / chunkSize);
+			@SuppressWarnings({ "rawtypes", "unchecked" })
+			final Map<Object, PositionBuffer>[] chunkIndices = new Map[chunkCount];
+			pool.invoke(new ChunkIndexingTask(list, chunkSize, chunkIndices, 0, chunkCount));
+
+			// Gather the positions of each element in chunk order
+			final Map<Object, List<PositionBuffer>> elementChunkPositionMap = new HashMap<>(chunkIndices[0].size());
+			for (final Map<Object, PositionBuffer> chunkIndex : chunkIndices) {
+				for (final Entry<Object, PositionBuffer> entry : chunkIndex.entrySet()) {
+					elementChunkPositionMap.computeIfAbsent(entry.getKey(), k -> new ArrayList<>(1))
+							.add(entry.getValue());
+				}
+			}
+			final int elementCount = elementChunkPositionMap.size();
+			final Object[] elements = new Object[elementCount];
+			@SuppressWarnings({ "rawtypes", "unchecked" })
+			final List<PositionBuffer>[] elementChunkPositions = new List[elementCount];
+			{
+				int i = 0;
+				for (final Entry<Object, List<PositionBuffer>> entry : elementChunkPositionMap.entrySet()) {
+					elements[i] = entry.getKey();
+					elementChunkPositions[i] = entry.getValue();
+					i++;
+				}
+			}
+			final Object[] indexCollections = new Object[elementCount];
+			pool.invoke(new IndexCollectionTask<>(elementChunkPositions, indexCollectionFactory, indexCollections, 0,
+					elementCount));
+
+			final Map<Object, C> decoratedMap = new HashMap<>(elementChunkPositionMap.size() * 4 / 3 + 1);
+			for (int i = 0; i < elementCount; ++i) {
+				@SuppressWarnings("unchecked")
+				final C indexCollection = (C) indexCollections[i];
+				decoratedMap.put(elements[i], indexCollection);
+			}
+			// Every index is unique, so there is no use in keeping another set
+			// of all of them
+			result = new MultiValueMap<>(decoratedMap, indexCollectionFactory, false);
+		}
+		return result;
+	}
+
 	public static final <E> boolean ensureIndex(final List<E> list, final int index) {
 		return CollectionSize.ensureSize(list, index + 1);
 	}
@@ -71,6 +425,126 @@ public final class ListIndex {
 		return CollectionSize.ensureSize(list, index + 1, defaultElement);
 	}
 
+	/**
+	 * Removes the elements at the given indices of a {@link List} in a single
+	 * pass which moves each retained element directly to its final index,
+	 * taking time linear in the size of the list rather than in the product
+	 * of its size and the number of removed elements.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices, referring to the list before any element is
+	 *            removed, of the elements to remove.
+	 * @return The removed elements in ascending index order.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is not less than the size of the list, in
+	 *             which case no element is removed.
+	 */
+	public static final <E> List<E> removeAllIndices(final List<E> list, final BitSet indices) {
+		assert list != null;
+		assert indices != null;
+		final int oldSize = list.size();
+		if (indices.length() > oldSize) {
+			throw new IndexOutOfBoundsException("Index: " + (indices.length() - 1) + ", Size: " + oldSize);
+		}
+		final List<E> result = new ArrayList<>(indices.cardinality());
+		final int firstIndex = indices.nextSetBit(0);
+		if (firstIndex >= 0) {
+			if (list instanceof RandomAccess) {
+				// Move each retained element directly to its final index and
+				// then truncate the list once
+				int newSize = firstIndex;
+				for (int i = firstIndex; i < oldSize; ++i) {
+					final E element = list.get(i);
+					if (indices.get(i)) {
+						result.add(element);
+					} else {
+						list.set(newSize++, element);
+					}
+				}
+				list.subList(newSize, oldSize).clear();
+			} else {
+				final ListIterator<E> iter = list.listIterator(firstIndex);
+				for (int i = firstIndex; iter.hasNext(); ++i) {
+					final E element = iter.next();
+					if (indices.get(i)) {
+						result.add(element);
+						iter.remove();
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the elements at the given indices of a {@link List} in a single
+	 * pass as by {@link #removeAllIndices(List, BitSet)} without boxing the
+	 * indices; If they are already in ascending order, nothing but the
+	 * returned list is allocated.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices, referring to the list before any element is
+	 *            removed, of the elements to remove, which is not modified;
+	 *            Duplicates are ignored.
+	 * @return The removed elements in ascending index order.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative or not less than the size of the
+	 *             list, in which case no element is removed.
+	 */
+	public static final <E> List<E> removeAllIndices(final List<E> list, final int[] indices) {
+		assert indices != null;
+		boolean isSorted = true;
+		for (int i = 1; i < indices.length; ++i) {
+			if (indices[i - 1] > indices[i]) {
+				isSorted = false;
+				break;
+			}
+		}
+		final int[] sortedIndices;
+		if (isSorted) {
+			sortedIndices = indices;
+		} else {
+			sortedIndices = indices.clone();
+			Arrays.sort(sortedIndices);
+		}
+		return removeSortedIndices(list, sortedIndices);
+	}
+
+	/**
+	 * Removes the elements at the given indices of a {@link List} in a single
+	 * pass as by {@link #removeAllIndices(List, BitSet)} without boxing the
+	 * indices.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices, referring to the list before any element is
+	 *            removed, of the elements to remove; Duplicates are ignored.
+	 * @return The removed elements in ascending index order.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative or not less than the size of the
+	 *             list, in which case no element is removed.
+	 */
+	public static final <E> List<E> removeAllIndices(final List<E> list, final IntStream indices) {
+		return removeSortedIndices(list, indices.sorted().toArray());
+	}
+
+	/**
+	 * Removes the elements at each of a sequence of indices from a
+	 * {@link List} in turn, each index referring to the list after the
+	 * elements at the preceding indices have been removed.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices of the elements to remove in the order to remove
+	 *            them in.
+	 * @return The removed elements in the order they were removed.
+	 */
 	public static final <E> List<E> removeAllIndices(final List<E> list, final Collection<Integer> indices) {
 		assert indices != null;
 		final List<E> result = new ArrayList<>(indices.size());
@@ -80,6 +554,18 @@ public final class ListIndex {
 		return result;
 	}
 
+	/**
+	 * Removes the elements at each of a sequence of indices from a
+	 * {@link List} in turn, each index referring to the list after the
+	 * elements at the preceding indices have been removed.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices of the elements to remove in the order to remove
+	 *            them in.
+	 * @return The removed elements in the order they were removed.
+	 */
 	public static final <E> List<E> removeAllIndices(final List<E> list, final Iterable<Integer> indices) {
 		final List<E> result = new LinkedList<>();
 
@@ -88,6 +574,20 @@ public final class ListIndex {
 		return result;
 	}
 
+	/**
+	 * Removes the elements at each of a sequence of indices from a
+	 * {@link List} in turn, each index referring to the list after the
+	 * elements at the preceding indices have been removed.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices of the elements to remove in the order to remove
+	 *            them in.
+	 * @param removedElements
+	 *            The {@link Collection} to add the removed elements to in the
+	 *            order they were removed.
+	 */
 	public static final <E> void removeAllIndices(final List<E> list, final Iterable<Integer> indices,
 			final Collection<E> removedElements) {
 		assert list != null;
@@ -98,26 +598,44 @@ public final class ListIndex {
 		}
 	}
 
+	/**
+	 * Removes the elements at the given indices of a {@link List} in a single
+	 * pass as by {@link #removeAllIndices(List, BitSet)}, without modifying
+	 * the given indices.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices, referring to the list before any element is
+	 *            removed, of the elements to remove; Duplicates are ignored.
+	 * @return The removed elements in ascending index order.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative or not less than the size of the
+	 *             list, in which case no element is removed.
+	 */
 	public static final <E> List<E> removeAllIndices(final List<E> list, final List<Integer> indices) {
-		Collections.sort(indices, Collections.reverseOrder());
 		final Collection<Integer> upcastIndices = indices;
-		return removeAllIndices(list, upcastIndices);
+		return removeAllIndices(list, createIndexBitSet(upcastIndices));
 	}
 
-	public static final <E> List<E> removeAllIndices(final List<E> list, SortedSet<Integer> indices) {
-		assert indices != null;
-		final Comparator<Integer> reverseComparator = Collections.reverseOrder();
-		// If the set is not definitely already in reverse natural order, create
-		// a new one
-		// in that order to be sure
-		if (!reverseComparator.equals(indices.comparator())) {
-			final SortedSet<Integer> reverseSortedIndices = new TreeSet<>(reverseComparator);
-			reverseSortedIndices.addAll(indices);
-			indices = reverseSortedIndices;
-		}
-
+	/**
+	 * Removes the elements at the given indices of a {@link List} in a single
+	 * pass as by {@link #removeAllIndices(List, BitSet)}, regardless of the
+	 * order of the given set.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param indices
+	 *            The indices, referring to the list before any element is
+	 *            removed, of the elements to remove.
+	 * @return The removed elements in ascending index order.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative or not less than the size of the
+	 *             list, in which case no element is removed.
+	 */
+	public static final <E> List<E> removeAllIndices(final List<E> list, final SortedSet<Integer> indices) {
 		final Collection<Integer> upcastIndices = indices;
-		return removeAllIndices(list, upcastIndices);
+		return removeAllIndices(list, createIndexBitSet(upcastIndices));
 	}
 
 	public static final <E> void setIndexedElements(final List<E> list,
@@ -142,6 +660,141 @@ public final class ListIndex {
 		setIndexedElements(list, elementIndexEntries);
 	}
 
+	/**
+	 * Sets each of a given sequence of elements at the corresponding index in
+	 * a parallel array of indices, first padding the {@link List} with
+	 * {@code null} up to the greatest index if necessary, without boxing the
+	 * indices.
+	 *
+	 * @param list
+	 *            The {@code List} to set the elements in.
+	 * @param indices
+	 *            The non-negative index of each element.
+	 * @param elements
+	 *            The elements to set at each index.
+	 * @throws IllegalArgumentException
+	 *             If the number of indices and of elements differ.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative.
+	 */
+	public static final <E> void setIndexedElements(final List<E> list, final int[] indices,
+			final List<? extends E> elements) {
+		assert list != null;
+		checkIndexedElementCount(indices, elements);
+		if (indices.length > 0) {
+			// Find the maximum index in order to pre-set the list length
+			ensureIndex(list, maxIndex(indices));
+			if (elements instanceof RandomAccess) {
+				for (int i = 0; i < indices.length; ++i) {
+					list.set(indices[i], elements.get(i));
+				}
+			} else {
+				int i = 0;
+				for (final E element : elements) {
+					list.set(indices[i++], element);
+				}
+			}
+		}
+	}
+
+	private static void checkIndexedElementCount(final int[] indices, final List<?> elements) {
+		assert elements != null;
+		if (indices.length != elements.size()) {
+			throw new IllegalArgumentException(String.format("Got %d indices but %d elements.", indices.length,
+					elements.size()));
+		}
+	}
+
+	private static BitSet createIndexBitSet(final Collection<Integer> indices) {
+		assert indices != null;
+		final BitSet result = new BitSet();
+		for (final Integer index : indices) {
+			final int intIndex = index.intValue();
+			if (intIndex < 0) {
+				throw new IndexOutOfBoundsException("Index: " + intIndex);
+			}
+			result.set(intIndex);
+		}
+		return result;
+	}
+
+	/**
+	 * @param indices
+	 *            The indices to find the greatest of.
+	 * @return The greatest index or {@code -1} if there are none.
+	 * @throws IndexOutOfBoundsException
+	 *             If any index is negative.
+	 */
+	private static int maxIndex(final int[] indices) {
+		int result = -1;
+		for (final int index : indices) {
+			if (index < 0) {
+				throw new IndexOutOfBoundsException("Index: " + index);
+			}
+			result = Math.max(result, index);
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the elements at the given indices of a {@link List} in a single
+	 * pass.
+	 *
+	 * @param list
+	 *            The {@code List} to remove elements from.
+	 * @param sortedIndices
+	 *            The indices of the elements to remove in ascending order,
+	 *            possibly with duplicates.
+	 * @return The removed elements in ascending index order.
+	 */
+	private static <E> List<E> removeSortedIndices(final List<E> list, final int[] sortedIndices) {
+		assert list != null;
+		final int oldSize = list.size();
+		final List<E> result;
+		if (sortedIndices.length < 1) {
+			result = new ArrayList<>(0);
+		} else {
+			final int firstIndex = sortedIndices[0];
+			final int lastIndex = sortedIndices[sortedIndices.length - 1];
+			if (firstIndex < 0 || lastIndex >= oldSize) {
+				throw new IndexOutOfBoundsException(
+						"Index: " + (firstIndex < 0 ? firstIndex : lastIndex) + ", Size: " + oldSize);
+			}
+			result = new ArrayList<>(sortedIndices.length);
+			int next = 0;
+			if (list instanceof RandomAccess) {
+				// Move each retained element directly to its final index and
+				// then truncate the list once
+				int newSize = firstIndex;
+				for (int i = firstIndex; i < oldSize; ++i) {
+					final E element = list.get(i);
+					if (next < sortedIndices.length && sortedIndices[next] == i) {
+						result.add(element);
+						do {
+							next++;
+						} while (next < sortedIndices.length && sortedIndices[next] == i);
+					} else {
+						list.set(newSize++, element);
+					}
+				}
+				list.subList(newSize, oldSize).clear();
+			} else {
+				final ListIterator<E> iter = list.listIterator(firstIndex);
+				for (int i = firstIndex; next < sortedIndices.length; ++i) {
+					final E element = iter.next();
+					if (sortedIndices[next] == i) {
+						result.add(element);
+						iter.remove();
+						do {
+							next++;
+						} while (next < sortedIndices.length && sortedIndices[next] == i);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
 	private ListIndex() {
 		// Avoid instantiation
 	}
@@ -0,0 +1,459 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A read-only {@link Map} of non-negative {@link Integer} keys to
+ * {@link String} values, e.g.&nbsp;a vocabulary of identifiers, which is
+ * backed by a file mapped into memory rather than being deserialized onto the
+ * heap. Opening a map therefore takes constant time and the data are shared
+ * through the page cache of the operating system by all processes which open
+ * the same file.
+ * <p>
+ * A file is created by {@link #write(Map, Path)} and consists of a header, an
+ * array of the keys in ascending order (omitted if the keys are exactly
+ * <code>0&ndash;{@link #size() size()}&nbsp;-&nbsp;1</code>), an array of the
+ * offset of each value in the payload followed by the end offset of the last
+ * one, and finally the payload containing each value encoded as UTF-8, all in
+ * big-endian byte order. Values are decoded on each lookup, which takes
+ * constant time for dense keys and logarithmic time otherwise.
+ * <p>
+ * Instances are safe for use by multiple threads as long as the file is not
+ * modified in place while it is mapped; {@link #write(Map, Path)} never does
+ * so, instead atomically replacing the file, so that existing mappings keep
+ * reading the previous contents.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class MappedIntegerKeyStringMap extends AbstractMap<Integer, String> {
+
+	/**
+	 * An unmodifiable {@link List} view of the values of a
+	 * {@link MappedIntegerKeyStringMap} indexed by their keys.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class IndexedValueList extends AbstractList<String> implements RandomAccess {
+
+		@Override
+		public String get(final int index) {
+			final int length = size();
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+			}
+			return MappedIntegerKeyStringMap.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return count < 1 ? 0 : keyAt(count - 1) + 1;
+		}
+
+	}
+
+	/**
+	 * The flag denoting that the keys are exactly
+	 * <code>0&ndash;count&nbsp;-&nbsp;1</code> and so are not stored.
+	 */
+	private static final int DENSE_KEYS_FLAG = 1;
+
+	/**
+	 * The number of bytes in the header.
+	 */
+	private static final int HEADER_LENGTH = 5 * Integer.BYTES;
+
+	/**
+	 * The magic number at the start of each file, which reads <em>RLIK</em>
+	 * in ASCII.
+	 */
+	private static final int MAGIC_NUMBER = 0x524C494B;
+
+	/**
+	 * The version of the file format written by {@link #write(Map, Path)}.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Maps a file previously created by {@link #write(Map, Path)} into memory.
+	 * The file can be closed or even deleted afterwards without affecting the
+	 * returned map.
+	 *
+	 * @param path
+	 *            The path of the file to open.
+	 * @return A new read-only map backed by the given file.
+	 * @throws IOException
+	 *             If an I/O error occurs or the file is not in the expected
+	 *             format.
+	 */
+	public static MappedIntegerKeyStringMap open(final Path path) throws IOException {
+		final MappedByteBuffer buffer;
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long fileLength = channel.size();
+			if (fileLength > Integer.MAX_VALUE) {
+				throw new IOException(String.format("File \"%s\" is too large to map: %d bytes.", path, fileLength));
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileLength);
+		}
+		return new MappedIntegerKeyStringMap(buffer, path);
+	}
+
+	/**
+	 * Writes the mappings of a given {@link Map} to a file which can then be
+	 * {@link #open(Path) opened} by any number of processes.
+	 *
+	 * @param map
+	 *            The map to write.
+	 * @param path
+	 *            The path of the file to write, which is atomically replaced
+	 *            if it already exists so that processes which have mapped the
+	 *            existing file can continue to read it.
+	 * @throws IOException
+	 *             If an I/O error occurs or the encoded values are too large
+	 *             to be mapped.
+	 * @throws IllegalArgumentException
+	 *             If any key is negative or any value is {@code null}.
+	 */
+	public static void write(final Map<Integer, ? extends CharSequence> map, final Path path) throws IOException {
+		final int count = map.size();
+		final int[] keys = new int[count];
+		{
+			int i = 0;
+			for (final Integer key : map.keySet()) {
+				final int intKey = key.intValue();
+				if (intKey < 0) {
+					throw new IllegalArgumentException("Key is negative: " + intKey);
+				}
+				keys[i++] = intKey;
+			}
+		}
+		Arrays.sort(keys);
+		final boolean areKeysDense = count < 1 || keys[count - 1] == count - 1;
+
+		// Encode the values first in order to find their offsets
+		final byte[][] encodedValues = new byte[count][];
+		final int[] offsets = new int[count + 1];
+		long payloadLength = 0;
+		for (int i = 0; i < count; ++i) {
+			final CharSequence value = map.get(keys[i]);
+			if (value == null) {
+				throw new IllegalArgumentException("Value for key " + keys[i] + " is null.");
+			}
+			offsets[i] = (int) payloadLength;
+			final byte[] encodedValue = value.toString().getBytes(StandardCharsets.UTF_8);
+			encodedValues[i] = encodedValue;
+			payloadLength += encodedValue.length;
+			if (payloadLength > Integer.MAX_VALUE) {
+				throw new IOException("Encoded values are too large to be mapped.");
+			}
+		}
+		offsets[count] = (int) payloadLength;
+		final long fileLength = HEADER_LENGTH + (areKeysDense ? 0L : (long) count * Integer.BYTES)
+				+ (count + 1L) * Integer.BYTES + payloadLength;
+		if (fileLength > Integer.MAX_VALUE) {
+			throw new IOException("Map is too large to be mapped: " + fileLength + " bytes.");
+		}
+
+		// Write to a temporary file which then atomically replaces any
+		// existing file, because truncating a file which another process has
+		// mapped would make that process's reads fault
+		final Path absolutePath = path.toAbsolutePath();
+		final Path tempPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(),
+				".tmp");
+		boolean isWritten = false;
+		try {
+			writeMappings(tempPath, areKeysDense, keys, offsets, encodedValues);
+			Files.move(tempPath, absolutePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			isWritten = true;
+		} finally {
+			if (!isWritten) {
+				Files.deleteIfExists(tempPath);
+			}
+		}
+	}
+
+	private static IntBuffer sliceInts(final ByteBuffer buffer, final int position, final int length) {
+		final ByteBuffer slice = buffer.duplicate();
+		slice.position(position);
+		slice.limit(position + length * Integer.BYTES);
+		return slice.slice().asIntBuffer();
+	}
+
+	/**
+	 * Writes encoded mappings to a given file in the mapped format.
+	 *
+	 * @param path
+	 *            The path of the file to write.
+	 * @param areKeysDense
+	 *            Whether the keys are exactly
+	 *            <code>0&ndash;keys.length&nbsp;-&nbsp;1</code>.
+	 * @param keys
+	 *            The keys in ascending order.
+	 * @param offsets
+	 *            The offset of each encoded value followed by the end offset
+	 *            of the last one.
+	 * @param encodedValues
+	 *            The value for each key encoded as UTF-8.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	private static void writeMappings(final Path path, final boolean areKeysDense, final int[] keys,
+			final int[] offsets, final byte[][] encodedValues) throws IOException {
+		final int count = keys.length;
+		final int payloadLength = offsets[count];
+		try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC_NUMBER);
+			out.writeInt(VERSION);
+			out.writeInt(areKeysDense ? DENSE_KEYS_FLAG : 0);
+			out.writeInt(count);
+			out.writeInt(payloadLength);
+			if (!areKeysDense) {
+				for (final int key : keys) {
+					out.writeInt(key);
+				}
+			}
+			for (final int offset : offsets) {
+				out.writeInt(offset);
+			}
+			for (final byte[] encodedValue : encodedValues) {
+				out.write(encodedValue);
+			}
+		}
+	}
+
+	/**
+	 * The number of mappings in the map.
+	 */
+	private final int count;
+
+	/**
+	 * The keys in ascending order or {@code null} if they are exactly
+	 * <code>0&ndash;{@link #count}&nbsp;-&nbsp;1</code>.
+	 */
+	private final IntBuffer keys;
+
+	/**
+	 * The offset of each value in {@link #payload} followed by the end offset
+	 * of the last value.
+	 */
+	private final IntBuffer offsets;
+
+	/**
+	 * The values encoded as UTF-8.
+	 */
+	private final ByteBuffer payload;
+
+	private MappedIntegerKeyStringMap(final ByteBuffer buffer, final Path path) throws IOException {
+		if (buffer.capacity() < HEADER_LENGTH || buffer.getInt(0) != MAGIC_NUMBER) {
+			throw new IOException(String.format("File \"%s\" is not a mapped integer-key map.", path));
+		}
+		final int version = buffer.getInt(Integer.BYTES);
+		if (version != VERSION) {
+			throw new IOException(String.format("File \"%s\" has unsupported version %d.", path, version));
+		}
+		final boolean areKeysDense = (buffer.getInt(2 * Integer.BYTES) & DENSE_KEYS_FLAG) != 0;
+		count = buffer.getInt(3 * Integer.BYTES);
+		final int payloadLength = buffer.getInt(4 * Integer.BYTES);
+		final long expectedLength = HEADER_LENGTH + (areKeysDense ? 0L : (long) count * Integer.BYTES)
+				+ (count + 1L) * Integer.BYTES + payloadLength;
+		if (count < 0 || payloadLength < 0 || expectedLength != buffer.capacity()) {
+			throw new IOException(String.format("File \"%s\" is truncated or corrupt.", path));
+		}
+
+		int position = HEADER_LENGTH;
+		if (areKeysDense) {
+			keys = null;
+		} else {
+			keys = sliceInts(buffer, position, count);
+			position += count * Integer.BYTES;
+		}
+		offsets = sliceInts(buffer, position, count + 1);
+		if (offsets.get(0) != 0 || offsets.get(count) != payloadLength) {
+			throw new IOException(String.format("File \"%s\" has corrupt value offsets.", path));
+		}
+		position += (count + 1) * Integer.BYTES;
+		final ByteBuffer payloadView = buffer.duplicate();
+		payloadView.position(position);
+		payload = payloadView.slice();
+	}
+
+	/**
+	 * Checks if there is a mapping for a given key without boxing the key.
+	 *
+	 * @param key
+	 *            The key to check.
+	 * @return {@code true} iff the key is mapped.
+	 */
+	public boolean containsKey(final int key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return key instanceof Integer && containsKey(((Integer) key).intValue());
+	}
+
+	@Override
+	public Set<Entry<Integer, String>> entrySet() {
+		return new AbstractSet<Entry<Integer, String>>() {
+
+			@Override
+			public Iterator<Entry<Integer, String>> iterator() {
+				return new Iterator<Entry<Integer, String>>() {
+
+					private int next = 0;
+
+					@Override
+					public boolean hasNext() {
+						return next < count;
+					}
+
+					@Override
+					public Entry<Integer, String> next() {
+						if (next >= count) {
+							throw new NoSuchElementException();
+						}
+						final int index = next++;
+						return new SimpleImmutableEntry<>(keyAt(index), valueAt(index));
+					}
+
+				};
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+
+		};
+	}
+
+	/**
+	 * Gets the value for a given key without boxing the key.
+	 *
+	 * @param key
+	 *            The key to get the value for.
+	 * @return The value mapped to the key or {@code null} if there is none.
+	 */
+	public String get(final int key) {
+		final int index = indexOf(key);
+		return index < 0 ? null : valueAt(index);
+	}
+
+	@Override
+	public String get(final Object key) {
+		return key instanceof Integer ? get(((Integer) key).intValue()) : null;
+	}
+
+	/**
+	 * @return An unmodifiable {@link List} view of the values, each at the
+	 *         index of its key, with a size of the highest key plus one and
+	 *         {@code null} at the index of each absent key.
+	 */
+	public List<String> getIndexedValues() {
+		return new IndexedValueList();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count < 1;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Finds the position of a given key in the file.
+	 *
+	 * @param key
+	 *            The key to find.
+	 * @return The position of the key or a negative number if it is not
+	 *         mapped.
+	 */
+	private int indexOf(final int key) {
+		final int result;
+		if (keys == null) {
+			result = key >= 0 && key < count ? key : -1;
+		} else {
+			int low = 0;
+			int high = count - 1;
+			int found = -1;
+			while (low <= high) {
+				final int mid = low + high >>> 1;
+				final int midKey = keys.get(mid);
+				if (midKey < key) {
+					low = mid + 1;
+				} else if (midKey > key) {
+					high = mid - 1;
+				} else {
+					found = mid;
+					break;
+				}
+			}
+			result = found;
+		}
+		return result;
+	}
+
+	private int keyAt(final int index) {
+		return keys == null ? index : keys.get(index);
+	}
+
+	private String valueAt(final int index) {
+		final int start = offsets.get(index);
+		final int end = offsets.get(index + 1);
+		if (start < 0 || end < start || end > payload.capacity()) {
+			throw new IllegalStateException(String.format("Corrupt value offsets [%d, %d) for index %d.", start, end,
+					index));
+		}
+		final byte[] encodedValue = new byte[end - start];
+		// Read from a duplicate so that concurrent lookups do not share a
+		// position
+		final ByteBuffer view = payload.duplicate();
+		view.position(start);
+		view.get(encodedValue);
+		return new String(encodedValue, StandardCharsets.UTF_8);
+	}
+
+}
@@ -15,14 +15,20 @@
  */
 package com.github.errantlinguist.collections;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * A {@link Map} which decorates another {@link Map}, which has
@@ -44,7 +50,55 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	/**
 	 * The generated serial version UID.
 	 */
-	private static final long serialVersionUID = 6469509507900144140L;
+	private static final long serialVersionUID = -1944862830637524514L;
+
+	/**
+	 * Closes the given gaps in the values of all keys, as if the gap values
+	 * had been removed from a list of positions: Each value is decremented by
+	 * the number of gaps which are less than it.
+	 *
+	 * @param multimap
+	 *            The {@link MultiValueMap} to update.
+	 * @param gaps
+	 *            The values to close, in strictly ascending order, none of
+	 *            which is mapped to any key.
+	 */
+	public static final <K, C extends SortedSet<Integer>> void closeValueGaps(
+			final MultiValueMap<K, Integer, C> multimap, final int[] gaps) {
+		if (gaps.length > 0) {
+			// Closing the gaps in the values of a key does not add or remove
+			// any keys, so the key set can be iterated over directly
+			for (final K key : multimap.keySet()) {
+				closeValueGaps(multimap, key, gaps);
+			}
+		}
+	}
+
+	/**
+	 * Increments the values for all keys which occur within a given range in
+	 * a single pass over the map. This is cheaper than
+	 * {@link #incrementValues(MultiValueMap, Collection, int, Integer, Integer)}
+	 * when most keys have values to increment because the keys need not be
+	 * collected first.
+	 *
+	 * @param multimap
+	 *            The {@link MultiValueMap} to add to.
+	 * @param increment
+	 *            The amount to increment the values by.
+	 * @param fromValue
+	 *            The inclusive minimum of the key values to increment.
+	 * @param toValue
+	 *            The exclusive maximum of the key values to increment.
+	 */
+	public static final <K, C extends SortedSet<Integer>> void incrementAllValues(
+			final MultiValueMap<K, Integer, C> multimap, final int increment, final Integer fromValue,
+			final Integer toValue) {
+		// Incrementing the values of a key does not add or remove any keys, so
+		// the key set can be iterated over directly
+		for (final K keyToIncrement : multimap.keySet()) {
+			incrementValues(multimap, keyToIncrement, increment, fromValue, toValue);
+		}
+	}
 
 	/**
 	 * Increments the values for a given key which occur within a given range.
@@ -64,9 +118,11 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 			final MultiValueMap<K, Integer, C> multimap, final Collection<? extends K> keysToIncrement,
 			final int increment, final Integer fromValue, final Integer toValue) {
 		assert keysToIncrement != null;
-		final Collection<Integer> incrementedValues = new HashSet<>(keysToIncrement.size());
-		for (final K keyToIncrement : keysToIncrement) {
-			incrementValues(multimap, keyToIncrement, increment, fromValue, toValue, incrementedValues);
+		// A key may occur more than once in the given collection but its
+		// values must be incremented only once
+		final Set<K> distinctKeysToIncrement = new HashSet<>(keysToIncrement);
+		for (final K keyToIncrement : distinctKeysToIncrement) {
+			incrementValues(multimap, keyToIncrement, increment, fromValue, toValue);
 		}
 	}
 
@@ -87,62 +143,118 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 		assert keysToAdd != null;
 		boolean result = false;
 
-		for (final K keyToAdd : keysToAdd) {
-			if (multimap.putValue(keyToAdd, startValue++)) {
-				result = true;
+		if (multimap.valueKeys == null) {
+			// Collect all the values for each key first so that each value
+			// collection is only added to once, in a single merge if possible
+			final Map<K, IntStream.Builder> keyValues = new HashMap<>();
+			int value = startValue;
+			for (final K keyToAdd : keysToAdd) {
+				keyValues.computeIfAbsent(keyToAdd, k -> IntStream.builder()).add(value++);
+			}
+			for (final Entry<K, IntStream.Builder> entry : keyValues.entrySet()) {
+				final C values = multimap.getValues(entry.getKey());
+				final int[] valuesToAdd = entry.getValue().build().toArray();
+				if (values instanceof AbstractIntegerNavigableSet) {
+					if (((AbstractIntegerNavigableSet) values).addAscending(valuesToAdd, 0, valuesToAdd.length)) {
+						result = true;
+					}
+				} else {
+					for (final int valueToAdd : valuesToAdd) {
+						if (values.add(valueToAdd)) {
+							result = true;
+						}
+					}
+				}
+			}
+		} else {
+			for (final K keyToAdd : keysToAdd) {
+				if (multimap.putValue(keyToAdd, startValue++)) {
+					result = true;
+				}
 			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Closes the given gaps in the values of a given key.
+	 *
+	 * @param multimap
+	 *            The {@link MultiValueMap} to update.
+	 * @param key
+	 *            The key to close the gaps in the values of.
+	 * @param gaps
+	 *            The values to close, in strictly ascending order, none of
+	 *            which is mapped to any key.
+	 */
+	private static final <K, C extends SortedSet<Integer>> void closeValueGaps(
+			final MultiValueMap<K, Integer, C> multimap, final K key, final int[] gaps) {
+		final C values = multimap.get(key);
+		if (values instanceof AbstractIntegerNavigableSet && multimap.valueKeys == null) {
+			// Nothing else refers to the individual values, so they can be
+			// decremented in place
+			((AbstractIntegerNavigableSet) values).closeGaps(gaps);
+		} else if (values != null && !values.isEmpty() && values.last() > gaps[0]) {
+			// Decrementing the values preserves their order, so the values
+			// can be re-added in order without clashing as long as the old
+			// ones are removed first
+			final SortedSet<Integer> valueRange = values.tailSet(gaps[0]);
+			final Integer[] valuesToDecrement = valueRange.toArray(new Integer[valueRange.size()]);
+			for (final Integer valueToDecrement : valuesToDecrement) {
+				final boolean wasOldValueRemoved = multimap.removeValue(key, valueToDecrement);
+				assert wasOldValueRemoved;
+			}
+			for (final Integer valueToDecrement : valuesToDecrement) {
+				final int gapCount = AbstractIntegerNavigableSet.countLower(gaps, valueToDecrement);
+				final boolean wasNewValuePut = multimap.putValue(key, valueToDecrement - gapCount);
+				assert wasNewValuePut;
+			}
+		}
+	}
+
 	/**
 	 * Increments the values for a given key which occur within a given range.
 	 *
 	 * @param multimap
 	 *            The {@link MultiValueMap} to add to.
-	 * @param keysToIncrement
-	 *            The keys to increment the values of.
+	 * @param keyToIncrement
+	 *            The key to increment the values of.
 	 * @param increment
 	 *            The amount to increment the values by.
 	 * @param fromValue
 	 *            The inclusive minimum of the key values to increment.
 	 * @param toValue
 	 *            The exclusive maximum of the key values to increment.
-	 * @param incrementedValues
-	 *            A {@link Collection} of elements in the original mapping which
-	 *            were incremented.
 	 */
 	private static final <K, C extends SortedSet<Integer>> void incrementValues(
 			final MultiValueMap<K, Integer, C> multimap, final K keyToIncrement, final int increment,
-			final Integer fromValue, final Integer toValue, final Collection<Integer> incrementedValues) {
-		// Filter out the values outside the specified range of values to update
-		final Iterable<Integer> valuesToIncrement = multimap.get(keyToIncrement).subSet(fromValue, toValue);
-		for (final Integer valueToIncrement : valuesToIncrement) {
-			if (!incrementedValues.contains(valueToIncrement)) {
-				// Remove the old value from the map
+			final Integer fromValue, final Integer toValue) {
+		final C values = multimap.get(keyToIncrement);
+		if (values instanceof AbstractIntegerNavigableSet && multimap.valueKeys == null) {
+			// Nothing else refers to the individual values, so they can be
+			// shifted in place
+			((AbstractIntegerNavigableSet) values).shiftValues(fromValue, toValue, increment);
+		} else if (values != null) {
+			// Filter out the values outside the specified range of values to
+			// update, copying them because the range view cannot be iterated
+			// over while the underlying set is being modified
+			final SortedSet<Integer> valueRange = values.subSet(fromValue, toValue);
+			final Integer[] valuesToIncrement = valueRange.toArray(new Integer[valueRange.size()]);
+			// Remove all the old values before adding any new ones so that no
+			// new value clashes with an old value which is yet to be
+			// incremented
+			for (final Integer valueToIncrement : valuesToIncrement) {
 				final boolean wasOldValueRemoved = multimap.removeValue(keyToIncrement, valueToIncrement);
 				assert wasOldValueRemoved;
-
-				final Integer incrementedValue = valueToIncrement + increment;
-				// Add the new value to the map
-				final boolean wasNewValuePut = multimap.putValue(keyToIncrement, incrementedValue);
+			}
+			for (final Integer valueToIncrement : valuesToIncrement) {
+				final boolean wasNewValuePut = multimap.putValue(keyToIncrement, valueToIncrement + increment);
 				assert wasNewValuePut;
-
-				// Put the old value in the set of already-incremented
-				// values
-				final boolean wasAdded = incrementedValues.add(valueToIncrement);
-				assert wasAdded;
 			}
 		}
 	}
 
-	/**
-	 * A {@link Collection} of all elements for all keys in the
-	 * {@link #getDecorated() decorated map}.
-	 */
-	private final Collection<V> allValues;
-
 	/**
 	 * The decorated {@link Map} instance.
 	 */
@@ -153,6 +265,15 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	 */
 	private final Supplier<? extends C> valueCollectionFactory;
 
+	/**
+	 * An inverse index of each element for all keys in the
+	 * {@link #getDecorated() decorated map} to the keys it is mapped to, or
+	 * {@code null} if values are not tracked. The key sets are singletons
+	 * until a value is mapped to more than one key. This is derived from the
+	 * decorated map and so is rebuilt rather than serialized.
+	 */
+	private transient Map<V, Set<K>> valueKeys;
+
 	/**
 	 *
 	 * @param decorated
@@ -162,15 +283,42 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	 *            map keys.
 	 */
 	protected MultiValueMap(final Map<K, C> decorated, final Supplier<? extends C> valueCollectionFactory) {
+		this(decorated, valueCollectionFactory, true);
+	}
+
+	/**
+	 *
+	 * @param decorated
+	 *            The {@link Map} to decorate.
+	 * @param valueCollectionFactory
+	 *            The factory to use for creating new value collections for the
+	 *            map keys.
+	 * @param trackAllValues
+	 *            If {@code true}, an inverse index of each value to the keys it
+	 *            is mapped to is maintained alongside the decorated map;
+	 *            Otherwise, {@link #containsValue(Object)},
+	 *            {@link #getAllValues()} and {@link #keysForValue(Object)}
+	 *            search the value collections themselves, which is slower but
+	 *            avoids a second copy of every value for maps with many
+	 *            values.
+	 */
+	MultiValueMap(final Map<K, C> decorated, final Supplier<? extends C> valueCollectionFactory,
+			final boolean trackAllValues) {
 		this.decorated = decorated;
 		this.valueCollectionFactory = valueCollectionFactory;
-		this.allValues = IterableElements.createAllElementSet(decorated.values());
-
+		if (trackAllValues) {
+			indexValueKeys();
+		} else {
+			valueKeys = null;
+		}
 	}
 
 	@Override
 	public void clear() {
 		decorated.clear();
+		if (valueKeys != null) {
+			valueKeys.clear();
+		}
 	}
 
 	@Override
@@ -201,7 +349,18 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 
 	@Override
 	public boolean containsValue(final Object value) {
-		return allValues.contains(value);
+		boolean result = false;
+		if (valueKeys == null) {
+			for (final C values : decorated.values()) {
+				if (values.contains(value)) {
+					result = true;
+					break;
+				}
+			}
+		} else {
+			result = valueKeys.containsKey(value);
+		}
+		return result;
 	}
 
 	@Override
@@ -219,7 +378,24 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	 *         all keys in the {@link #getDecorated() decorated map}.
 	 */
 	public Collection<V> getAllValues() {
-		return Collections.unmodifiableCollection(allValues);
+		final Collection<V> result = valueKeys == null ? IterableElements.createAllElementSet(decorated.values())
+				: valueKeys.keySet();
+		return Collections.unmodifiableCollection(result);
+	}
+
+	/**
+	 * Gets all elements for all keys, creating the set of them using the
+	 * threads of a given {@link ForkJoinPool} if they are not tracked.
+	 *
+	 * @param pool
+	 *            The pool to create the set of all elements in.
+	 * @return An unmodifiable view of a {@link Collection} of all elements for
+	 *         all keys in the {@link #getDecorated() decorated map}.
+	 */
+	public Collection<V> getAllValues(final ForkJoinPool pool) {
+		final Collection<V> result = valueKeys == null
+				? IterableElements.createAllElementSet(decorated.values(), pool) : valueKeys.keySet();
+		return Collections.unmodifiableCollection(result);
 	}
 
 	/**
@@ -269,22 +445,52 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 		return decorated.keySet();
 	}
 
+	/**
+	 * Finds all keys a given value is mapped to.
+	 *
+	 * @param value
+	 *            The value to look up.
+	 * @return An unmodifiable snapshot {@link Set} of all keys which map to
+	 *         the given value, which is not affected by later changes to the
+	 *         map; if there are none, then an empty {@code Set} is returned.
+	 */
+	public Set<K> keysForValue(final Object value) {
+		final Set<K> result;
+		if (valueKeys == null) {
+			result = new HashSet<>();
+			for (final Entry<K, C> entry : decorated.entrySet()) {
+				if (entry.getValue().contains(value)) {
+					result.add(entry.getKey());
+				}
+			}
+		} else {
+			final Set<K> keys = valueKeys.get(value);
+			// Copy the keys so that the result is a snapshot regardless of
+			// whether values are tracked
+			result = keys == null ? Collections.<K>emptySet() : new HashSet<>(keys);
+		}
+		return Collections.unmodifiableSet(result);
+	}
+
 	@Override
 	public C put(final K key, final C value) {
 		final C result = decorated.put(key, value);
 
-		if (result != null) {
-			allValues.removeAll(result);
+		if (valueKeys != null) {
+			if (result != null) {
+				removeValueKeys(key, result);
+			}
+			addValueKeys(key, value);
 		}
-		allValues.addAll(value);
 
 		return result;
 	}
 
 	@Override
 	public void putAll(final Map<? extends K, ? extends C> m) {
-		decorated.putAll(m);
-		IterableElements.addAllElements(allValues, m.values());
+		for (final Entry<? extends K, ? extends C> entry : m.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
 	}
 
 	/**
@@ -299,8 +505,8 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	public boolean putValue(final K key, final V value) {
 		final C values = getValues(key);
 		final boolean result = values.add(value);
-		if (result) {
-			allValues.add(value);
+		if (result && valueKeys != null) {
+			addValueKey(key, value);
 		}
 		return result;
 	}
@@ -317,8 +523,8 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	public boolean putValues(final K key, final Collection<V> values) {
 		final C keyValues = getValues(key);
 		final boolean result = keyValues.addAll(values);
-		if (result) {
-			allValues.addAll(values);
+		if (result && valueKeys != null) {
+			addValueKeys(key, values);
 		}
 		return result;
 	}
@@ -327,8 +533,11 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	public C remove(final Object key) {
 		final C result = decorated.remove(key);
 
-		if (result != null) {
-			allValues.removeAll(result);
+		if (result != null && valueKeys != null) {
+			// The key was in the decorated map and so is of type "K"
+			@SuppressWarnings("unchecked")
+			final K removedKey = (K) key;
+			removeValueKeys(removedKey, result);
 		}
 
 		return result;
@@ -352,8 +561,10 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 			result = false;
 		} else {
 			result = values.remove(value);
-			if (result) {
-				allValues.remove(value);
+			// The value collection may allow duplicates, in which case the key
+			// may still map to the value
+			if (result && valueKeys != null && !values.contains(value)) {
+				removeValueKey(key, value);
 			}
 		}
 
@@ -371,17 +582,12 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 	 * @return {@code true} if at least one value was successfully removed.
 	 */
 	public boolean removeValues(final K key, final Collection<V> values) {
-		final boolean result;
-		final C keyValues = decorated.get(key);
-		if (values == null) {
-			result = false;
-		} else {
-			result = keyValues.remove(values);
-			if (result) {
-				allValues.removeAll(values);
+		boolean result = false;
+		for (final V value : values) {
+			if (removeValue(key, value)) {
+				result = true;
 			}
 		}
-
 		return result;
 	}
 
@@ -411,4 +617,76 @@ public final class MultiValueMap<K, V, C extends Collection<V>> implements Map<K
 		return decorated.values();
 	}
 
+	private void addValueKey(final K key, final V value) {
+		final Set<K> keys = valueKeys.get(value);
+		if (keys == null) {
+			valueKeys.put(value, Collections.singleton(key));
+		} else if (!keys.contains(key)) {
+			if (keys.size() == 1) {
+				// Replace the immutable singleton set with a mutable one
+				final Set<K> newKeys = new HashSet<>(keys);
+				newKeys.add(key);
+				valueKeys.put(value, newKeys);
+			} else {
+				keys.add(key);
+			}
+		}
+	}
+
+	private void addValueKeys(final K key, final Collection<? extends V> values) {
+		for (final V value : values) {
+			addValueKey(key, value);
+		}
+	}
+
+	/**
+	 * Builds the inverse index of values from the decorated map.
+	 */
+	private void indexValueKeys() {
+		valueKeys = new HashMap<>();
+		for (final Entry<K, C> entry : decorated.entrySet()) {
+			addValueKeys(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (in.readBoolean()) {
+			indexValueKeys();
+		} else {
+			valueKeys = null;
+		}
+	}
+
+	private void removeValueKey(final K key, final V value) {
+		final Set<K> keys = valueKeys.get(value);
+		if (keys != null && keys.contains(key)) {
+			if (keys.size() == 1) {
+				valueKeys.remove(value);
+			} else {
+				keys.remove(key);
+			}
+		}
+	}
+
+	private void removeValueKeys(final K key, final Collection<? extends V> values) {
+		for (final V value : values) {
+			removeValueKey(key, value);
+		}
+	}
+
+	/**
+	 * Writes the decorated map and whether values are tracked but not the
+	 * inverse index of values, which is rebuilt on deserialization.
+	 *
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeBoolean(valueKeys != null);
+	}
+
 }
@@ -0,0 +1,444 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A hash map of non-{@code null} object keys to primitive {@code int} values,
+ * e.g.&nbsp;for counting the frequency of each of a set of objects, which
+ * stores its keys and values in two parallel arrays using open addressing
+ * with linear probing rather than allocating an entry and an
+ * {@link Integer} for each mapping as a {@code HashMap<K, Integer>} does.
+ * Absent keys are treated as being mapped to {@code 0}.
+ *
+ * @param <K>
+ *            The key type.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class ObjectIntMap<K> implements Serializable {
+
+	private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	/**
+	 * The maximum ratio of mappings to slots in the hash table before it is
+	 * enlarged.
+	 */
+	private static final float LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The maximum number of slots in the hash table.
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = 4402317395612846183L;
+
+	/**
+	 * @param expectedSize
+	 *            The number of mappings to make room for.
+	 * @return The smallest power of two number of slots which can hold the
+	 *         given number of mappings without exceeding the load factor.
+	 */
+	private static int capacityFor(final int expectedSize) {
+		final long minCapacity = Math.max(2L, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+		if (minCapacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Too many mappings: " + expectedSize);
+		}
+		return Integer.highestOneBit((int) minCapacity - 1) << 1;
+	}
+
+	/**
+	 * The key in each slot of the hash table or {@code null} if the slot is
+	 * empty.
+	 */
+	private transient Object[] keys;
+
+	/**
+	 * The bit mask for getting a slot index from a hash code.
+	 */
+	private transient int mask;
+
+	/**
+	 * The number of mappings above which the hash table is enlarged.
+	 */
+	private transient int resizeThreshold;
+
+	/**
+	 * The number of mappings.
+	 */
+	private transient int size;
+
+	/**
+	 * The value for the key in each slot of the hash table.
+	 */
+	private transient int[] values;
+
+	public ObjectIntMap() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * @param expectedSize
+	 *            The number of mappings the map can hold without being
+	 *            enlarged.
+	 * @throws IllegalArgumentException
+	 *             If the size is negative or too large.
+	 */
+	public ObjectIntMap(final int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+		}
+		allocate(capacityFor(expectedSize));
+		this.size = 0;
+	}
+
+	/**
+	 * Adds a given amount to the value of a given key, mapping the key to the
+	 * amount if it is absent.
+	 *
+	 * @param key
+	 *            The key to add to the value of.
+	 * @param delta
+	 *            The amount to add.
+	 * @return The new value of the key.
+	 */
+	public int addTo(final K key, final int delta) {
+		final int slot = findSlot(key);
+		final int result;
+		if (keys[slot] == null) {
+			result = delta;
+			insert(slot, key, delta);
+		} else {
+			result = values[slot] + delta;
+			values[slot] = result;
+		}
+		return result;
+	}
+
+	public void clear() {
+		Arrays.fill(keys, null);
+		Arrays.fill(values, 0);
+		size = 0;
+	}
+
+	/**
+	 * @param key
+	 *            The key to check.
+	 * @return {@code true} iff the key is mapped to a value.
+	 */
+	public boolean containsKey(final Object key) {
+		return keys[findSlot(key)] != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof ObjectIntMap)) {
+			return false;
+		}
+		final ObjectIntMap<?> other = (ObjectIntMap<?>) obj;
+		if (size != other.size) {
+			return false;
+		}
+		for (int slot = 0; slot < keys.length; ++slot) {
+			final Object key = keys[slot];
+			if (key != null) {
+				final int otherSlot = other.findSlot(key);
+				if (other.keys[otherSlot] == null || other.values[otherSlot] != values[slot]) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Performs a given action for each mapping without boxing the values.
+	 *
+	 * @param action
+	 *            The action to perform for each key and its value.
+	 */
+	public void forEach(final ObjIntConsumer<? super K> action) {
+		for (int slot = 0; slot < keys.length; ++slot) {
+			final Object key = keys[slot];
+			if (key != null) {
+				@SuppressWarnings("unchecked")
+				final K castKey = (K) key;
+				action.accept(castKey, values[slot]);
+			}
+		}
+	}
+
+	/**
+	 * @param key
+	 *            The key to get the value of.
+	 * @return The value of the key or {@code 0} if it is absent.
+	 */
+	public int get(final Object key) {
+		final int slot = findSlot(key);
+		return keys[slot] == null ? 0 : values[slot];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = 0;
+		for (int slot = 0; slot < keys.length; ++slot) {
+			final Object key = keys[slot];
+			if (key != null) {
+				// The same as the hash code of an equivalent Map<K, Integer>
+				result += key.hashCode() ^ values[slot];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a given amount to the values of all keys in a single pass over the
+	 * value array.
+	 *
+	 * @param delta
+	 *            The amount to add.
+	 */
+	public void incrementAll(final int delta) {
+		for (int slot = 0; slot < keys.length; ++slot) {
+			if (keys[slot] != null) {
+				values[slot] += delta;
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return size < 1;
+	}
+
+	/**
+	 * Maps a given key to a given value.
+	 *
+	 * @param key
+	 *            The key to map.
+	 * @param value
+	 *            The value to map the key to.
+	 * @return The previous value of the key or {@code 0} if it was absent.
+	 */
+	public int put(final K key, final int value) {
+		final int slot = findSlot(key);
+		final int result;
+		if (keys[slot] == null) {
+			result = 0;
+			insert(slot, key, value);
+		} else {
+			result = values[slot];
+			values[slot] = value;
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the mapping for a given key.
+	 *
+	 * @param key
+	 *            The key to remove the mapping for.
+	 * @return The previous value of the key or {@code 0} if it was absent.
+	 */
+	public int remove(final Object key) {
+		int slot = findSlot(key);
+		final int result;
+		if (keys[slot] == null) {
+			result = 0;
+		} else {
+			result = values[slot];
+			// Shift back any following keys which would no longer be
+			// reachable from their ideal slots across the emptied slot
+			for (int next = slot + 1 & mask; keys[next] != null; next = next + 1 & mask) {
+				final int ideal = Hashing.mix(keys[next].hashCode()) & mask;
+				if ((next - ideal & mask) >= (next - slot & mask)) {
+					keys[slot] = keys[next];
+					values[slot] = values[next];
+					slot = next;
+				}
+			}
+			keys[slot] = null;
+			values[slot] = 0;
+			size--;
+		}
+		return result;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(size * 16 + 2);
+		builder.append('{');
+		forEach((key, value) -> {
+			if (builder.length() > 1) {
+				builder.append(", ");
+			}
+			builder.append(key);
+			builder.append('=');
+			builder.append(value);
+		});
+		builder.append('}');
+		return builder.toString();
+	}
+
+	private void allocate(final int capacity) {
+		keys = new Object[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		resizeThreshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+	}
+
+	/**
+	 * Finds the slot of a given key.
+	 *
+	 * @param key
+	 *            The key to find.
+	 * @return The slot containing the key or the empty slot at which it
+	 *         would be inserted.
+	 * @throws NullPointerException
+	 *             If the key is {@code null}.
+	 */
+	private int findSlot(final Object key) {
+		int result = Hashing.mix(key.hashCode()) & mask;
+		for (Object slotKey; (slotKey = keys[result]) != null && !slotKey.equals(key); result = result + 1 & mask) {
+			// Probe the next slot
+		}
+		return result;
+	}
+
+	/**
+	 * Puts a new mapping in a given empty slot, enlarging the hash table if
+	 * the load factor would be exceeded.
+	 *
+	 * @param slot
+	 *            The empty slot for the key.
+	 * @param key
+	 *            The key to put.
+	 * @param value
+	 *            The value to put.
+	 */
+	private void insert(final int slot, final K key, final int value) {
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size > resizeThreshold) {
+			if (keys.length == MAX_CAPACITY) {
+				throw new IllegalStateException("Map is full.");
+			}
+			rehash(keys.length << 1);
+		}
+	}
+
+	/**
+	 * Reads the mappings written by {@link #writeObject(ObjectOutputStream)}
+	 * and re-inserts them, since the slots of the keys depend on their hash
+	 * codes, which may differ between virtual machines.
+	 *
+	 * @param in
+	 *            The stream to read from.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 * @throws ClassNotFoundException
+	 *             If the class of a serialized key cannot be found.
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int mappingCount = in.readInt();
+		if (mappingCount < 0) {
+			throw new InvalidObjectException("Illegal mapping count: " + mappingCount);
+		}
+		allocate(capacityFor(mappingCount));
+		size = 0;
+		for (int i = 0; i < mappingCount; ++i) {
+			@SuppressWarnings("unchecked")
+			final K key = (K) in.readObject();
+			put(key, in.readInt());
+		}
+	}
+
+	private void rehash(final int capacity) {
+		final Object[] oldKeys = keys;
+		final int[] oldValues = values;
+		allocate(capacity);
+		for (int oldSlot = 0; oldSlot < oldKeys.length; ++oldSlot) {
+			final Object key = oldKeys[oldSlot];
+			if (key != null) {
+				int slot = Hashing.mix(key.hashCode()) & mask;
+				while (keys[slot] != null) {
+					slot = slot + 1 & mask;
+				}
+				keys[slot] = key;
+				values[slot] = oldValues[oldSlot];
+			}
+		}
+	}
+
+	/**
+	 * Writes the number of mappings followed by each key and its value rather
+	 * than the hash table itself.
+	 *
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt(size);
+		for (int slot = 0; slot < keys.length; ++slot) {
+			final Object key = keys[slot];
+			if (key != null) {
+				out.writeObject(key);
+				out.writeInt(values[slot]);
+			}
+		}
+	}
+
+}
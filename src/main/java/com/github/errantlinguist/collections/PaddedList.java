@@ -0,0 +1,213 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * A {@link java.util.List List} which pads itself with a default element
+ * without storing it: Only the elements up to the last one explicitly
+ * written are stored in an {@link ArrayList}, while the trailing padding is
+ * represented only by the {@link #size() size} of the list. This means that
+ * {@link #ensureSize(int) growing} the list, e.g.&nbsp;through
+ * {@link ListIndex#ensureIndex(java.util.List, int)}, takes constant time and
+ * no memory; the padding is stored only once an element after it is written.
+ * <p>
+ * Elements are compared to the default element by identity, so that
+ * {@link #get(int)} always returns the same reference that was written.
+ * </p>
+ *
+ * @param <E>
+ *            The type of the list elements.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class PaddedList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = -2873349815462590143L;
+
+	private final E defaultElement;
+
+	/**
+	 * The size of the list, including the padding after the stored elements.
+	 */
+	private int size;
+
+	/**
+	 * The elements up to and including the last one which is not padding.
+	 */
+	private final ArrayList<E> storedElements;
+
+	/**
+	 * Creates an empty list padded with {@code null} references.
+	 */
+	public PaddedList() {
+		this(null);
+	}
+
+	/**
+	 * @param defaultElement
+	 *            The element to pad the list with.
+	 */
+	public PaddedList(final E defaultElement) {
+		this.defaultElement = defaultElement;
+		this.storedElements = new ArrayList<>();
+		this.size = 0;
+	}
+
+	@Override
+	public void add(final int index, final E element) {
+		checkPositionIndex(index);
+		if (element != defaultElement || index < storedElements.size()) {
+			storePadding(index);
+			storedElements.add(index, element);
+		}
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		storedElements.clear();
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Ensures that the list has a given size by adding padding to the end of
+	 * it without storing it.
+	 *
+	 * @param size
+	 *            The target size of the list.
+	 * @return {@code true} iff the list was enlarged.
+	 */
+	public boolean ensureSize(final int size) {
+		final boolean result;
+		if (size > this.size) {
+			this.size = size;
+			modCount++;
+			result = true;
+		} else {
+			result = false;
+		}
+		return result;
+	}
+
+	@Override
+	public E get(final int index) {
+		checkElementIndex(index);
+		return index < storedElements.size() ? storedElements.get(index) : defaultElement;
+	}
+
+	/**
+	 * @return The element the list is padded with.
+	 */
+	public E getDefaultElement() {
+		return defaultElement;
+	}
+
+	@Override
+	public E remove(final int index) {
+		checkElementIndex(index);
+		final E result = index < storedElements.size() ? storedElements.remove(index) : defaultElement;
+		size--;
+		modCount++;
+		return result;
+	}
+
+	@Override
+	public E set(final int index, final E element) {
+		checkElementIndex(index);
+		final E result;
+		if (index < storedElements.size()) {
+			result = storedElements.set(index, element);
+		} else {
+			result = defaultElement;
+			if (element != defaultElement) {
+				storePadding(index);
+				storedElements.add(element);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes the stored trailing padding, e.g.&nbsp;after the last
+	 * non-default element was {@link #set(int, Object) overwritten} with the
+	 * default element, and trims the capacity of the backing list.
+	 */
+	public void trimToSize() {
+		int storedSize = storedElements.size();
+		while (storedSize > 0 && storedElements.get(storedSize - 1) == defaultElement) {
+			storedSize--;
+		}
+		storedElements.subList(storedSize, storedElements.size()).clear();
+		storedElements.trimToSize();
+	}
+
+	private void checkElementIndex(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d; Size: %d", index, size));
+		}
+	}
+
+	private void checkPositionIndex(final int index) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d; Size: %d", index, size));
+		}
+	}
+
+	/**
+	 * Stores the padding before a given index so that an element can be
+	 * stored at it.
+	 *
+	 * @param index
+	 *            The index to store the padding up to, exclusive.
+	 */
+	private void storePadding(final int index) {
+		final int storedSize = storedElements.size();
+		if (index > storedSize) {
+			storedElements.ensureCapacity(index + 1);
+			for (int i = storedSize; i < index; ++i) {
+				storedElements.add(defaultElement);
+			}
+		}
+	}
+
+	@Override
+	protected void removeRange(final int fromIndex, final int toIndex) {
+		final int storedSize = storedElements.size();
+		if (fromIndex < storedSize) {
+			storedElements.subList(fromIndex, Math.min(toIndex, storedSize)).clear();
+		}
+		size -= toIndex - fromIndex;
+		modCount++;
+	}
+
+}
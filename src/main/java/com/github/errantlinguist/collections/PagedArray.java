@@ -0,0 +1,607 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.util.Arrays;
+
+/**
+ * An array of elements indexed by non-negative {@code int} values which
+ * adapts its storage to how densely the indices are occupied: While most of
+ * the indices up to the highest one are occupied, the elements are stored in a
+ * single array, but as soon as they become sparse, they are moved to small
+ * pages of {@value #PAGE_SIZE} indices. Each page stores only its occupied
+ * elements and the pages are held in a hash table keyed by page number, so
+ * that the memory used is proportional to the number of occupied indices
+ * rather than to the highest index. As soon as removals make the indices
+ * dense again, the elements are moved back into a single array.
+ *
+ * @param <E>
+ *            The element type.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+final class PagedArray<E> {
+
+	/**
+	 * A range of {@value PagedArray#PAGE_SIZE} indices which stores only the
+	 * elements at its occupied indices, in index order.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class Page {
+
+		/**
+		 * A bitmap of the occupied indices in the page.
+		 */
+		private long presence;
+
+		/**
+		 * The element at each occupied index in the page, the element at the
+		 * {@code n}th occupied index being at position {@code n}.
+		 */
+		private Object[] values;
+
+		private Page(final long presence, final Object[] values) {
+			this.presence = presence;
+			this.values = values;
+		}
+
+		/**
+		 * @param bit
+		 *            The presence bit of an index in the page.
+		 * @return The position of the element for the index in
+		 *         {@link #values}.
+		 */
+		private int position(final long bit) {
+			return Long.bitCount(presence & bit - 1);
+		}
+
+	}
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private static final int DEFAULT_PAGE_TABLE_CAPACITY = 16;
+
+	private static final long[] EMPTY_PRESENCE_WORDS = new long[0];
+
+	private static final Object[] EMPTY_VALUES = new Object[0];
+
+	/**
+	 * The maximum length of the single array used in dense mode.
+	 */
+	private static final int MAX_DENSE_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * The number of index bits used for addressing an element in a page,
+	 * which is chosen so that the presence bitmap of a page fits in a single
+	 * {@code long} word.
+	 */
+	private static final int PAGE_SHIFT = 6;
+
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private static void checkIndex(final int index) {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+	}
+
+	private static boolean clearPresence(final long[] presenceWords, final int index) {
+		final int wordIndex = index >> 6;
+		final long bit = 1L << index;
+		final boolean result = (presenceWords[wordIndex] & bit) != 0;
+		presenceWords[wordIndex] &= ~bit;
+		return result;
+	}
+
+	/**
+	 * Checks if an array of a given length would be dense enough for a given
+	 * number of elements to store them in a single array.
+	 *
+	 * @param length
+	 *            The length of the array.
+	 * @param count
+	 *            The number of elements.
+	 * @return {@code true} iff at least half of the array would be occupied
+	 *         or it would be no longer than a single page.
+	 */
+	private static boolean isDense(final long length, final long count) {
+		return length <= PAGE_SIZE || length <= count * 2;
+	}
+
+	/**
+	 * @param presence
+	 *            The presence bitmap of a page.
+	 * @param pageNumber
+	 *            The number of the page.
+	 * @return The highest occupied index in the page plus one.
+	 */
+	private static int pageLength(final long presence, final int pageNumber) {
+		return (pageNumber << PAGE_SHIFT) + Long.SIZE - Long.numberOfLeadingZeros(presence);
+	}
+
+	/**
+	 * Marks a given index as occupied.
+	 *
+	 * @param presenceWords
+	 *            The bitmap to mark the index in.
+	 * @param index
+	 *            The index to mark.
+	 * @return {@code true} iff the index was not already marked.
+	 */
+	private static boolean setPresence(final long[] presenceWords, final int index) {
+		final int wordIndex = index >> 6;
+		final long bit = 1L << index;
+		final boolean result = (presenceWords[wordIndex] & bit) == 0;
+		presenceWords[wordIndex] |= bit;
+		return result;
+	}
+
+	private static int wordCount(final int capacity) {
+		return (capacity + Long.SIZE - 1) >>> 6;
+	}
+
+	/**
+	 * A bitmap of the occupied indices while in dense mode.
+	 */
+	private long[] densePresenceWords;
+
+	/**
+	 * The elements at each index while in dense mode or {@code null} while in
+	 * paged mode.
+	 */
+	private Object[] denseValues;
+
+	/**
+	 * The highest occupied index plus one.
+	 */
+	private int length;
+
+	/**
+	 * The number of pages in {@link #pages}.
+	 */
+	private int pageCount;
+
+	/**
+	 * The number of the page in each slot of the page hash table.
+	 */
+	private int[] pageNumbers;
+
+	/**
+	 * The page in each slot of the page hash table while in paged mode, each
+	 * of which is {@code null} if the slot is empty, or {@code null} while in
+	 * dense mode.
+	 */
+	private Page[] pages;
+
+	/**
+	 * The number of occupied indices.
+	 */
+	private int size;
+
+	PagedArray() {
+		this.denseValues = new Object[DEFAULT_INITIAL_CAPACITY];
+		this.densePresenceWords = new long[wordCount(DEFAULT_INITIAL_CAPACITY)];
+		this.pageNumbers = null;
+		this.pages = null;
+		this.pageCount = 0;
+		this.length = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Removes all elements, returning to dense mode.
+	 */
+	void clear() {
+		denseValues = EMPTY_VALUES;
+		densePresenceWords = EMPTY_PRESENCE_WORDS;
+		pageNumbers = null;
+		pages = null;
+		pageCount = 0;
+		length = 0;
+		size = 0;
+	}
+
+	/**
+	 * Prepares the storage for putting a number of elements at once so that
+	 * it grows at most once rather than once for each element.
+	 *
+	 * @param maxIndex
+	 *            The highest index which will be put.
+	 * @param count
+	 *            The number of elements which will be put, not all of which
+	 *            necessarily vacant.
+	 * @throws IndexOutOfBoundsException
+	 *             If the index is negative.
+	 */
+	void ensureCapacity(final int maxIndex, final int count) {
+		checkIndex(maxIndex);
+		if (denseValues != null && maxIndex >= denseValues.length) {
+			growDense(maxIndex, (long) size + count);
+		}
+	}
+
+	/**
+	 * @param index
+	 *            The index of the element to get.
+	 * @return The element at the given index or {@code null} if it is not
+	 *         occupied.
+	 */
+	E get(final int index) {
+		final Object result;
+		if (index < 0 || index >= length) {
+			result = null;
+		} else if (denseValues != null) {
+			result = denseValues[index];
+		} else {
+			final Page page = pages[findPageSlot(index >>> PAGE_SHIFT)];
+			final long bit = 1L << index;
+			result = page == null || (page.presence & bit) == 0 ? null : page.values[page.position(bit)];
+		}
+		@SuppressWarnings("unchecked")
+		final E castResult = (E) result;
+		return castResult;
+	}
+
+	/**
+	 * @return {@code true} iff the elements are currently stored in a single
+	 *         array.
+	 */
+	boolean isDense() {
+		return denseValues != null;
+	}
+
+	/**
+	 * @return The highest occupied index plus one.
+	 */
+	int length() {
+		return length;
+	}
+
+	/**
+	 * Vacates a given index, moving the elements back into a single array if
+	 * they are in pages and the indices are then dense enough.
+	 *
+	 * @param index
+	 *            The index to vacate.
+	 * @return The element previously at the given index or {@code null} if it
+	 *         was not occupied.
+	 */
+	E remove(final int index) {
+		Object result = null;
+		if (index >= 0 && index < length) {
+			final boolean wasOccupied;
+			if (denseValues != null) {
+				wasOccupied = clearPresence(densePresenceWords, index);
+				result = denseValues[index];
+				denseValues[index] = null;
+			} else {
+				final int slot = findPageSlot(index >>> PAGE_SHIFT);
+				final Page page = pages[slot];
+				final long bit = 1L << index;
+				wasOccupied = page != null && (page.presence & bit) != 0;
+				if (wasOccupied) {
+					final int position = page.position(bit);
+					final int count = Long.bitCount(page.presence);
+					result = page.values[position];
+					page.presence &= ~bit;
+					if (count < 2) {
+						// Free the page as soon as it is empty
+						removePage(slot);
+					} else {
+						System.arraycopy(page.values, position + 1, page.values, position, count - position - 1);
+						page.values[count - 1] = null;
+						if (count - 1 <= page.values.length >> 2) {
+							page.values = Arrays.copyOf(page.values, (count - 1) * 2);
+						}
+					}
+				}
+			}
+			if (wasOccupied) {
+				size--;
+				if (index == length - 1) {
+					length = findLength(index);
+					if (denseValues == null && isDense(length, size)) {
+						densify();
+					}
+				}
+			}
+		}
+		@SuppressWarnings("unchecked")
+		final E castResult = (E) result;
+		return castResult;
+	}
+
+	/**
+	 * Puts an element at a given index.
+	 *
+	 * @param index
+	 *            The non-negative index to put the element at.
+	 * @param element
+	 *            The element to put.
+	 * @return The element previously at the given index or {@code null} if it
+	 *         was not occupied.
+	 * @throws IndexOutOfBoundsException
+	 *             If the index is negative.
+	 */
+	E set(final int index, final E element) {
+		checkIndex(index);
+		if (denseValues != null && index >= denseValues.length) {
+			growDense(index, size + 1L);
+		}
+		final Object result;
+		final boolean wasOccupied;
+		if (denseValues != null) {
+			result = denseValues[index];
+			denseValues[index] = element;
+			wasOccupied = !setPresence(densePresenceWords, index);
+		} else {
+			final Page page = createPage(index >>> PAGE_SHIFT);
+			final long bit = 1L << index;
+			final int position = page.position(bit);
+			wasOccupied = (page.presence & bit) != 0;
+			if (wasOccupied) {
+				result = page.values[position];
+				page.values[position] = element;
+			} else {
+				result = null;
+				final int count = Long.bitCount(page.presence);
+				if (count == page.values.length) {
+					page.values = Arrays.copyOf(page.values, Math.min(PAGE_SIZE, count + (count >> 1) + 1));
+				}
+				System.arraycopy(page.values, position, page.values, position + 1, count - position);
+				page.values[position] = element;
+				page.presence |= bit;
+			}
+		}
+		if (!wasOccupied) {
+			size++;
+			if (index >= length) {
+				length = index + 1;
+			}
+		}
+		@SuppressWarnings("unchecked")
+		final E castResult = (E) result;
+		return castResult;
+	}
+
+	/**
+	 * @return The number of occupied indices.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Minimizes the storage used: The elements are moved back into a single
+	 * array if they are in pages and the indices are dense enough, and the
+	 * single array is trimmed to the highest occupied index.
+	 */
+	void trimToSize() {
+		if (denseValues == null) {
+			if (isDense(length, size)) {
+				densify();
+			}
+		} else if (denseValues.length > length) {
+			denseValues = Arrays.copyOf(denseValues, length);
+			densePresenceWords = Arrays.copyOf(densePresenceWords, wordCount(length));
+		}
+	}
+
+	/**
+	 * Gets the page with a given number in paged mode, creating it if it does
+	 * not yet exist.
+	 *
+	 * @param pageNumber
+	 *            The number of the page to get.
+	 * @return The page with the given number.
+	 */
+	private Page createPage(final int pageNumber) {
+		final int slot = findPageSlot(pageNumber);
+		Page result = pages[slot];
+		if (result == null) {
+			result = new Page(0L, EMPTY_VALUES);
+			putPage(slot, pageNumber, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Moves all the elements from pages into a single array just long enough
+	 * to hold them.
+	 */
+	private void densify() {
+		final int capacity = Math.max(DEFAULT_INITIAL_CAPACITY, length);
+		final Object[] values = new Object[capacity];
+		final long[] presenceWords = new long[wordCount(capacity)];
+		for (int slot = 0; slot < pages.length; ++slot) {
+			final Page page = pages[slot];
+			if (page != null) {
+				final int pageNumber = pageNumbers[slot];
+				presenceWords[pageNumber] = page.presence;
+				int position = 0;
+				for (long word = page.presence; word != 0; word &= word - 1) {
+					values[(pageNumber << PAGE_SHIFT) + Long.numberOfTrailingZeros(word)] = page.values[position++];
+				}
+			}
+		}
+		denseValues = values;
+		densePresenceWords = presenceWords;
+		pageNumbers = null;
+		pages = null;
+		pageCount = 0;
+	}
+
+	/**
+	 * Finds the highest occupied index below a given index.
+	 *
+	 * @param index
+	 *            The index to search below.
+	 * @return The highest occupied index below the given index plus one or
+	 *         {@code 0} if there is none.
+	 */
+	private int findLength(final int index) {
+		int result = 0;
+		if (denseValues != null) {
+			for (int wordIndex = index >> 6; wordIndex >= 0; --wordIndex) {
+				final long word = densePresenceWords[wordIndex];
+				if (word != 0) {
+					result = (wordIndex << 6) + Long.SIZE - Long.numberOfLeadingZeros(word);
+					break;
+				}
+			}
+		} else {
+			final int pageNumber = index >>> PAGE_SHIFT;
+			final Page page = pages[findPageSlot(pageNumber)];
+			if (page == null) {
+				// The last page was freed, so find the page with the highest
+				// number among all the others, none of which is ever empty
+				int maxPageNumber = -1;
+				for (int slot = 0; slot < pages.length; ++slot) {
+					if (pages[slot] != null && pageNumbers[slot] > maxPageNumber) {
+						maxPageNumber = pageNumbers[slot];
+					}
+				}
+				if (maxPageNumber >= 0) {
+					result = pageLength(pages[findPageSlot(maxPageNumber)].presence, maxPageNumber);
+				}
+			} else {
+				result = pageLength(page.presence, pageNumber);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the slot of the page with a given number in the page hash table.
+	 *
+	 * @param pageNumber
+	 *            The number of the page to find.
+	 * @return The slot containing the page or the empty slot at which it
+	 *         would be inserted.
+	 */
+	private int findPageSlot(final int pageNumber) {
+		final int mask = pages.length - 1;
+		int result = Hashing.mix(pageNumber) & mask;
+		while (pages[result] != null && pageNumbers[result] != pageNumber) {
+			result = result + 1 & mask;
+		}
+		return result;
+	}
+
+	/**
+	 * Makes room for a given index in dense mode, either by growing the dense
+	 * array or by switching to paged mode if the array would then be too
+	 * sparse.
+	 *
+	 * @param index
+	 *            The index to make room for.
+	 * @param expectedSize
+	 *            The number of occupied indices expected after the new
+	 *            elements have been put.
+	 */
+	private void growDense(final int index, final long expectedSize) {
+		final int oldCapacity = denseValues.length;
+		final long newCapacity = Math.max(index + 1L,
+				Math.max(DEFAULT_INITIAL_CAPACITY, oldCapacity + ((long) oldCapacity >> 1)));
+		if (isDense(index + 1L, expectedSize) && index < MAX_DENSE_CAPACITY) {
+			final int capacity = (int) Math.min(newCapacity, MAX_DENSE_CAPACITY);
+			denseValues = Arrays.copyOf(denseValues, capacity);
+			densePresenceWords = Arrays.copyOf(densePresenceWords, wordCount(capacity));
+		} else {
+			// Move all the elements into pages; Each presence word of the
+			// dense array is exactly the presence bitmap of one page
+			final Object[] oldValues = denseValues;
+			final long[] oldPresenceWords = densePresenceWords;
+			denseValues = null;
+			densePresenceWords = null;
+			pageNumbers = new int[DEFAULT_PAGE_TABLE_CAPACITY];
+			pages = new Page[DEFAULT_PAGE_TABLE_CAPACITY];
+			pageCount = 0;
+			for (int pageNumber = 0; pageNumber < oldPresenceWords.length; ++pageNumber) {
+				final long presence = oldPresenceWords[pageNumber];
+				if (presence != 0) {
+					final Object[] values = new Object[Long.bitCount(presence)];
+					int position = 0;
+					for (long word = presence; word != 0; word &= word - 1) {
+						values[position++] = oldValues[(pageNumber << PAGE_SHIFT)
+								+ Long.numberOfTrailingZeros(word)];
+					}
+					putPage(findPageSlot(pageNumber), pageNumber, new Page(presence, values));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Puts a new page in a given empty slot of the page hash table, enlarging
+	 * the table if it would then be more than three quarters full.
+	 *
+	 * @param slot
+	 *            The empty slot for the page.
+	 * @param pageNumber
+	 *            The number of the page.
+	 * @param page
+	 *            The page to put.
+	 */
+	private void putPage(final int slot, final int pageNumber, final Page page) {
+		pageNumbers[slot] = pageNumber;
+		pages[slot] = page;
+		if (++pageCount > pages.length - (pages.length >> 2)) {
+			final int[] oldPageNumbers = pageNumbers;
+			final Page[] oldPages = pages;
+			pageNumbers = new int[oldPages.length << 1];
+			pages = new Page[oldPages.length << 1];
+			for (int oldSlot = 0; oldSlot < oldPages.length; ++oldSlot) {
+				if (oldPages[oldSlot] != null) {
+					final int newSlot = findPageSlot(oldPageNumbers[oldSlot]);
+					pageNumbers[newSlot] = oldPageNumbers[oldSlot];
+					pages[newSlot] = oldPages[oldSlot];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the page in a given slot of the page hash table.
+	 *
+	 * @param slot
+	 *            The slot of the page to remove.
+	 */
+	private void removePage(final int slot) {
+		final int mask = pages.length - 1;
+		int emptySlot = slot;
+		// Shift back any following pages which would no longer be reachable
+		// from their ideal slots across the emptied slot
+		for (int next = emptySlot + 1 & mask; pages[next] != null; next = next + 1 & mask) {
+			final int ideal = Hashing.mix(pageNumbers[next]) & mask;
+			if ((next - ideal & mask) >= (next - emptySlot & mask)) {
+				pageNumbers[emptySlot] = pageNumbers[next];
+				pages[emptySlot] = pages[next];
+				emptySlot = next;
+			}
+		}
+		pages[emptySlot] = null;
+		pageCount--;
+	}
+
+}
@@ -0,0 +1,291 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An order-statistic tree (implemented as an implicit treap) of
+ * {@link Node nodes} which represent the positions of a sequence: The position
+ * of a node is not stored anywhere but is rather determined by the sizes of
+ * the subtrees to its left, so that inserting or removing a node at an
+ * arbitrary position implicitly shifts the positions of all the nodes after it
+ * in {@code O(log n)} expected time.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+final class PositionTree {
+
+	/**
+	 * A node in a {@link PositionTree}, representing a single position in the
+	 * sequence.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	static class Node {
+
+		private Node left;
+
+		private Node parent;
+
+		private final int priority;
+
+		private Node right;
+
+		private int size;
+
+		private Node() {
+			this.priority = ThreadLocalRandom.current().nextInt();
+			this.size = 1;
+		}
+
+		/**
+		 * Constructs a detached node which is never put into a tree, used only
+		 * for searching.
+		 *
+		 * @param priority
+		 *            A dummy priority.
+		 */
+		Node(final int priority) {
+			this.priority = priority;
+			this.size = 0;
+		}
+
+		/**
+		 * Calculates the current position of this node in its tree by walking
+		 * up to the root.
+		 *
+		 * @return The position of this node.
+		 */
+		int position() {
+			int result = size(left);
+			Node child = this;
+			for (Node ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+				if (child == ancestor.right) {
+					result += size(ancestor.left) + 1;
+				}
+				child = ancestor;
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * A {@link Node} with a fixed position, used as a key for searching in
+	 * collections of nodes ordered by {@link #POSITION_COMPARATOR}.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	static final class Probe extends Node {
+
+		private final int position;
+
+		Probe(final int position) {
+			super(0);
+			this.position = position;
+		}
+
+		@Override
+		int position() {
+			return position;
+		}
+
+	}
+
+	/**
+	 * A {@link Comparator} for ordering the {@link Node nodes} of a single
+	 * tree by their current position; Since the relative order of any two
+	 * nodes never changes while they are both in the tree, collections
+	 * ordered by this comparator need not be updated when other nodes are
+	 * inserted or removed.
+	 */
+	static final Comparator<Node> POSITION_COMPARATOR = (n1, n2) -> Integer.compare(n1.position(), n2.position());
+
+	/**
+	 * Joins two trees, all of the nodes of the first preceding those of the
+	 * second.
+	 *
+	 * @param first
+	 *            The root of the first tree.
+	 * @param second
+	 *            The root of the second tree.
+	 * @return The root of the joined tree.
+	 */
+	private static Node merge(final Node first, final Node second) {
+		final Node result;
+		if (first == null) {
+			result = second;
+		} else if (second == null) {
+			result = first;
+		} else if (first.priority > second.priority) {
+			first.right = merge(first.right, second);
+			first.right.parent = first;
+			update(first);
+			result = first;
+		} else {
+			second.left = merge(first, second.left);
+			second.left.parent = second;
+			update(second);
+			result = second;
+		}
+		return result;
+	}
+
+	private static void setParent(final Node child, final Node parent) {
+		if (child != null) {
+			child.parent = parent;
+		}
+	}
+
+	private static int size(final Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * Splits a tree into two trees, the first of which contains the given
+	 * number of nodes.
+	 *
+	 * @param root
+	 *            The root of the tree to split.
+	 * @param count
+	 *            The number of nodes to put into the first tree.
+	 * @param result
+	 *            An array in which to put the roots of the two resulting trees.
+	 */
+	private static void split(final Node root, final int count, final Node[] result) {
+		if (root == null) {
+			result[0] = null;
+			result[1] = null;
+		} else if (size(root.left) < count) {
+			split(root.right, count - size(root.left) - 1, result);
+			root.right = result[0];
+			setParent(root.right, root);
+			update(root);
+			result[0] = root;
+		} else {
+			split(root.left, count, result);
+			root.left = result[1];
+			setParent(root.left, root);
+			update(root);
+			result[1] = root;
+		}
+	}
+
+	private static void update(final Node node) {
+		node.size = size(node.left) + size(node.right) + 1;
+	}
+
+	/**
+	 * The root node of the tree.
+	 */
+	private Node root;
+
+	/**
+	 * Removes all nodes from the tree.
+	 */
+	void clear() {
+		root = null;
+	}
+
+	/**
+	 * Inserts new nodes at a given position, shifting the positions of all
+	 * nodes previously at or after it by the number of nodes inserted.
+	 *
+	 * @param position
+	 *            The position of the first new node.
+	 * @param count
+	 *            The number of nodes to insert.
+	 * @return The new nodes, in positional order.
+	 */
+	Node[] insert(final int position, final int count) {
+		final Node[] result = new Node[count];
+		Node inserted = null;
+		for (int i = 0; i < count; ++i) {
+			final Node node = new Node();
+			result[i] = node;
+			inserted = merge(inserted, node);
+		}
+		final Node[] parts = new Node[2];
+		split(root, position, parts);
+		root = merge(merge(parts[0], inserted), parts[1]);
+		setParent(root, null);
+		return result;
+	}
+
+	/**
+	 * Finds the node at a given position.
+	 *
+	 * @param position
+	 *            The position of the node to get.
+	 * @return The node at the given position.
+	 * @throws IndexOutOfBoundsException
+	 *             If there is no node at the given position.
+	 */
+	Node nodeAt(int position) {
+		if (position < 0 || position >= size()) {
+			throw new IndexOutOfBoundsException("Position: " + position + ", Size: " + size());
+		}
+		Node result = root;
+		while (true) {
+			final int leftSize = size(result.left);
+			if (position < leftSize) {
+				result = result.left;
+			} else if (position > leftSize) {
+				position -= leftSize + 1;
+				result = result.right;
+			} else {
+				break;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the node at a given position, shifting the positions of all
+	 * nodes after it back by one.
+	 *
+	 * @param position
+	 *            The position of the node to remove.
+	 * @return The removed node.
+	 */
+	Node remove(final int position) {
+		final Node[] parts = new Node[2];
+		split(root, position, parts);
+		final Node head = parts[0];
+		split(parts[1], 1, parts);
+		final Node result = parts[0];
+		root = merge(head, parts[1]);
+		setParent(root, null);
+		result.parent = null;
+		return result;
+	}
+
+	/**
+	 * @return The number of nodes in the tree.
+	 */
+	int size() {
+		return size(root);
+	}
+
+}
@@ -0,0 +1,313 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An {@link ElementPositionIndex} which stores the positions of the element
+ * occurrences relative to each other in a {@link PositionTree}: Each element
+ * is mapped to the {@link PositionTree.Node nodes} at which it occurs, and
+ * the actual position of each node is calculated only when needed. Thus,
+ * inserting or removing an element at an arbitrary position costs
+ * {@code O(log n)} tree operations rather than rewriting the positions of all
+ * the elements after it, while looking up the first or last position of an
+ * element costs {@code O(log n)} rather than being constant-time.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+final class RelativePositionIndex implements ElementPositionIndex {
+
+	/**
+	 * An unmodifiable view of the positions of a single element.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private static final class ElementPositionSet extends AbstractIntegerNavigableSet {
+
+		private static PrimitiveIterator.OfInt createPositionIterator(final Iterator<PositionTree.Node> nodeIter) {
+			return new PrimitiveIterator.OfInt() {
+
+				@Override
+				public boolean hasNext() {
+					return nodeIter.hasNext();
+				}
+
+				@Override
+				public int nextInt() {
+					return nodeIter.next().position();
+				}
+
+			};
+		}
+
+		private static long position(final PositionTree.Node node) {
+			return node == null ? NO_SUCH_VALUE : node.position();
+		}
+
+		private final NavigableSet<PositionTree.Node> nodes;
+
+		private ElementPositionSet(final NavigableSet<PositionTree.Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public boolean containsInt(final int value) {
+			return nodes.contains(new PositionTree.Probe(value));
+		}
+
+		@Override
+		public PrimitiveIterator.OfInt descendingIntIterator(final int fromValue) {
+			return createPositionIterator(
+					nodes.headSet(new PositionTree.Probe(fromValue), true).descendingIterator());
+		}
+
+		@Override
+		public PrimitiveIterator.OfInt intIterator(final int fromValue) {
+			return createPositionIterator(nodes.tailSet(new PositionTree.Probe(fromValue), true).iterator());
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return nodes.isEmpty();
+		}
+
+		@Override
+		public int size() {
+			return nodes.size();
+		}
+
+		@Override
+		protected long ceilingValue(final int value) {
+			return position(nodes.ceiling(new PositionTree.Probe(value)));
+		}
+
+		@Override
+		protected long floorValue(final int value) {
+			return position(nodes.floor(new PositionTree.Probe(value)));
+		}
+
+	}
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = 2807081000963543843L;
+
+	/**
+	 * The map of each element to the {@link PositionTree.Node nodes}
+	 * representing the positions at which it occurs.
+	 */
+	private transient Map<Object, NavigableSet<PositionTree.Node>> elementNodes;
+
+	/**
+	 * The indexed {@link List}.
+	 */
+	private final List<?> list;
+
+	/**
+	 * The tree of all positions in {@link #list}.
+	 */
+	private transient PositionTree tree;
+
+	/**
+	 * @param list
+	 *            The {@link List} to index.
+	 */
+	RelativePositionIndex(final List<?> list) {
+		this.list = list;
+		rebuild();
+	}
+
+	@Override
+	public Map<Object, NavigableSet<Integer>> asMap() {
+		return new AbstractMap<Object, NavigableSet<Integer>>() {
+
+			@Override
+			public boolean containsKey(final Object key) {
+				return elementNodes.containsKey(key);
+			}
+
+			@Override
+			public Set<Entry<Object, NavigableSet<Integer>>> entrySet() {
+				return new AbstractSet<Entry<Object, NavigableSet<Integer>>>() {
+
+					@Override
+					public Iterator<Entry<Object, NavigableSet<Integer>>> iterator() {
+						final Iterator<Entry<Object, NavigableSet<PositionTree.Node>>> entryIter = elementNodes
+								.entrySet().iterator();
+						return new Iterator<Entry<Object, NavigableSet<Integer>>>() {
+
+							@Override
+							public boolean hasNext() {
+								return entryIter.hasNext();
+							}
+
+							@Override
+							public Entry<Object, NavigableSet<Integer>> next() {
+								final Entry<Object, NavigableSet<PositionTree.Node>> entry = entryIter.next();
+								return new SimpleImmutableEntry<>(entry.getKey(),
+										new ElementPositionSet(entry.getValue()));
+							}
+
+						};
+					}
+
+					@Override
+					public int size() {
+						return elementNodes.size();
+					}
+
+				};
+			}
+
+			@Override
+			public NavigableSet<Integer> get(final Object key) {
+				final NavigableSet<PositionTree.Node> nodes = elementNodes.get(key);
+				return nodes == null ? null : new ElementPositionSet(nodes);
+			}
+
+			@Override
+			public int size() {
+				return elementNodes.size();
+			}
+
+		};
+	}
+
+	@Override
+	public int ceilingPosition(final Object element, final int position) {
+		final NavigableSet<PositionTree.Node> nodes = elementNodes.get(element);
+		final PositionTree.Node result = nodes == null ? null : nodes.ceiling(new PositionTree.Probe(position));
+		return result == null ? -1 : result.position();
+	}
+
+	@Override
+	public void cleared() {
+		elementNodes.clear();
+		tree.clear();
+	}
+
+	@Override
+	public boolean containsElement(final Object element) {
+		return elementNodes.containsKey(element);
+	}
+
+	@Override
+	public int firstPosition(final Object element) {
+		final NavigableSet<PositionTree.Node> nodes = elementNodes.get(element);
+		return nodes == null ? -1 : nodes.first().position();
+	}
+
+	@Override
+	public int floorPosition(final Object element, final int position) {
+		final NavigableSet<PositionTree.Node> nodes = elementNodes.get(element);
+		final PositionTree.Node result = nodes == null ? null : nodes.floor(new PositionTree.Probe(position));
+		return result == null ? -1 : result.position();
+	}
+
+	@Override
+	public void inserted(final int position, final int count) {
+		// Put all the new nodes into the tree before putting any into the
+		// element node sets because the latter are ordered by the nodes'
+		// positions in the tree
+		final PositionTree.Node[] nodes = tree.insert(position, count);
+		final ListIterator<?> insertedElementIter = list.listIterator(position);
+		for (final PositionTree.Node node : nodes) {
+			putNode(insertedElementIter.next(), node);
+		}
+	}
+
+	@Override
+	public int lastPosition(final Object element) {
+		final NavigableSet<PositionTree.Node> nodes = elementNodes.get(element);
+		return nodes == null ? -1 : nodes.last().position();
+	}
+
+	@Override
+	public void rebuild() {
+		elementNodes = new HashMap<>();
+		tree = new PositionTree();
+		inserted(0, list.size());
+	}
+
+	@Override
+	public void removed(final int position, final Object element) {
+		// Remove the node from the element node set before removing it from
+		// the tree because the former is ordered by the nodes' positions in
+		// the tree
+		removeNode(element, tree.nodeAt(position));
+		tree.remove(position);
+	}
+
+	@Override
+	public void removedAll(final int[] positions, final List<?> elements) {
+		assert positions.length == elements.size();
+		// Remove the nodes from the back so that the positions of the nodes
+		// yet to be removed stay the same
+		for (int i = positions.length - 1; i >= 0; --i) {
+			removed(positions[i], elements.get(i));
+		}
+	}
+
+	@Override
+	public void replaced(final int position, final Object oldElement) {
+		final PositionTree.Node node = tree.nodeAt(position);
+		removeNode(oldElement, node);
+		putNode(list.get(position), node);
+	}
+
+	private void putNode(final Object element, final PositionTree.Node node) {
+		NavigableSet<PositionTree.Node> nodes = elementNodes.get(element);
+		if (nodes == null) {
+			nodes = new TreeSet<>(PositionTree.POSITION_COMPARATOR);
+			elementNodes.put(element, nodes);
+		}
+		final boolean wasAdded = nodes.add(node);
+		assert wasAdded;
+	}
+
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		rebuild();
+	}
+
+	private void removeNode(final Object element, final PositionTree.Node node) {
+		final NavigableSet<PositionTree.Node> nodes = elementNodes.get(element);
+		final boolean wasRemoved = nodes.remove(node);
+		assert wasRemoved;
+		if (nodes.isEmpty()) {
+			elementNodes.remove(element);
+		}
+	}
+
+}
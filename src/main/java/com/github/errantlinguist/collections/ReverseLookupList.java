@@ -15,22 +15,32 @@
  */
 package com.github.errantlinguist.collections;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.SortedSet;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 /**
  * A {@link List} implementation which decorates another {@link List} instance,
- * maintaining a {@link MultiValueMap} which has the list elements {@code E} as
- * keys which are mapped to {@link NavigableSet} objects containing the indices
- * at which each element occurs in the decorated {@code List}.
+ * maintaining a reverse-lookup index which maps the list elements {@code E} to
+ * {@link NavigableSet} objects containing the indices at which each element
+ * occurs in the decorated {@code List}. How the index is maintained is
+ * determined by the {@link IndexMaintenance} chosen on construction.
  *
  * @param <E>
  *            The type of the elements of the decorated {@code List}.
@@ -41,10 +51,652 @@ import java.util.SortedSet;
  */
 public final class ReverseLookupList<E> implements Serializable, List<E> {
 
+	/**
+	 * A builder which creates a {@link ReverseLookupList} by consuming a
+	 * source of elements such as an {@link Iterator}, {@link Spliterator} or
+	 * {@link Stream} exactly once, appending each element to the backing
+	 * {@link ArrayList} and to the reverse-lookup index at the same time
+	 * rather than first materializing a {@link List} and then indexing it in
+	 * a second pass.
+	 * <p>
+	 * The configuration must be set before the first element is added.
+	 * {@link #build()} returns the list built so far and resets the builder so
+	 * that it can be used to build another list.
+	 *
+	 * @param <E>
+	 *            The type of the list elements.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	public static final class Builder<E> {
+
+		/**
+		 * The number of elements appended to the backing list between
+		 * updates of the index, which are then indexed together.
+		 */
+		private static final int INDEX_CHUNK_SIZE = 8192;
+
+		/**
+		 * The backing list of {@link #list}, or {@code null} if no element
+		 * has yet been added.
+		 */
+		private ArrayList<E> elements;
+
+		private int expectedSize;
+
+		/**
+		 * The number of elements at the start of {@link #elements} which
+		 * have already been indexed.
+		 */
+		private int indexedCount;
+
+		private IndexMaintenance indexMaintenance;
+
+		/**
+		 * The list being built, or {@code null} if no element has yet been
+		 * added.
+		 */
+		private ReverseLookupList<E> list;
+
+		private double spliceRebuildRatio;
+
+		public Builder() {
+			this.elements = null;
+			this.expectedSize = 0;
+			this.indexedCount = 0;
+			this.indexMaintenance = IndexMaintenance.ABSOLUTE;
+			this.list = null;
+			this.spliceRebuildRatio = DEFAULT_SPLICE_REBUILD_RATIO;
+		}
+
+		/**
+		 * Appends an element to the list.
+		 *
+		 * @param element
+		 *            The element to append.
+		 * @return This builder.
+		 */
+		public Builder<E> add(final E element) {
+			started();
+			append(element);
+			return this;
+		}
+
+		/**
+		 * Appends all remaining elements of an {@link Iterator} to the list.
+		 *
+		 * @param iter
+		 *            The iterator to consume.
+		 * @return This builder.
+		 */
+		public Builder<E> addAll(final Iterator<? extends E> iter) {
+			started();
+			while (iter.hasNext()) {
+				append(iter.next());
+			}
+			return this;
+		}
+
+		/**
+		 * Appends all remaining elements of a {@link Spliterator} to the list,
+		 * first reserving room for them if their number is known.
+		 *
+		 * @param spliterator
+		 *            The spliterator to consume.
+		 * @return This builder.
+		 */
+		public Builder<E> addAll(final Spliterator<? extends E> spliterator) {
+			started();
+			final long exactSize = spliterator.getExactSizeIfKnown();
+			if (exactSize > 0) {
+				elements.ensureCapacity((int) Math.min(Integer.MAX_VALUE - 8, elements.size() + exactSize));
+			}
+			spliterator.forEachRemaining(this::append);
+			return this;
+		}
+
+		/**
+		 * Appends all elements of a {@link Stream} to the list in encounter
+		 * order, consuming the stream.
+		 *
+		 * @param stream
+		 *            The stream to consume.
+		 * @return This builder.
+		 */
+		public Builder<E> addAll(final Stream<? extends E> stream) {
+			return addAll(stream.spliterator());
+		}
+
+		/**
+		 * Returns the list built so far and resets this builder.
+		 *
+		 * @return A new {@link ReverseLookupList} containing all the elements
+		 *         added since the last time this method was called.
+		 */
+		public ReverseLookupList<E> build() {
+			final ReverseLookupList<E> result = started();
+			indexAppended();
+			elements = null;
+			indexedCount = 0;
+			list = null;
+			return result;
+		}
+
+		/**
+		 * Sets the expected number of elements, for which room is reserved
+		 * in the backing list as soon as the first element is added, or
+		 * immediately if elements have already been added.
+		 *
+		 * @param expectedSize
+		 *            The expected number of elements.
+		 * @return This builder.
+		 * @throws IllegalArgumentException
+		 *             If the size is negative.
+		 */
+		public Builder<E> expectedSize(final int expectedSize) {
+			if (expectedSize < 0) {
+				throw new IllegalArgumentException("Expected size is negative: " + expectedSize);
+			}
+			this.expectedSize = expectedSize;
+			if (elements != null) {
+				elements.ensureCapacity(expectedSize);
+			}
+			return this;
+		}
+
+		/**
+		 * @param indexMaintenance
+		 *            The way in which to maintain the reverse-lookup index of
+		 *            the list.
+		 * @return This builder.
+		 * @throws IllegalStateException
+		 *             If elements have already been added.
+		 */
+		public Builder<E> indexMaintenance(final IndexMaintenance indexMaintenance) {
+			checkNotStarted();
+			this.indexMaintenance = Objects.requireNonNull(indexMaintenance);
+			return this;
+		}
+
+		/**
+		 * @param spliceRebuildRatio
+		 *            The minimum ratio of the number of elements inserted by
+		 *            {@link ReverseLookupList#addAll(int, Collection)} to the
+		 *            resulting size of the list at which the index is rebuilt
+		 *            rather than updated.
+		 * @return This builder.
+		 * @throws IllegalArgumentException
+		 *             If the ratio is not positive.
+		 * @throws IllegalStateException
+		 *             If elements have already been added.
+		 */
+		public Builder<E> spliceRebuildRatio(final double spliceRebuildRatio) {
+			checkNotStarted();
+			if (!(spliceRebuildRatio > 0.0)) {
+				throw new IllegalArgumentException("Splice rebuild ratio must be positive: " + spliceRebuildRatio);
+			}
+			this.spliceRebuildRatio = spliceRebuildRatio;
+			return this;
+		}
+
+		private void append(final E element) {
+			elements.add(element);
+			if (elements.size() - indexedCount >= INDEX_CHUNK_SIZE) {
+				indexAppended();
+			}
+		}
+
+		private void checkNotStarted() {
+			if (list != null) {
+				throw new IllegalStateException("Elements have already been added.");
+			}
+		}
+
+		/**
+		 * Adds the elements appended since the last update of the index to
+		 * it all at once.
+		 */
+		private void indexAppended() {
+			final int appendedCount = elements.size() - indexedCount;
+			if (appendedCount > 0) {
+				list.modCount++;
+				list.reverseLookupIndex.inserted(indexedCount, appendedCount);
+				indexedCount = elements.size();
+			}
+		}
+
+		/**
+		 * @return The list being built, which is created if no element has
+		 *         yet been added.
+		 */
+		private ReverseLookupList<E> started() {
+			if (list == null) {
+				elements = new ArrayList<>(expectedSize);
+				list = new ReverseLookupList<>(elements, indexMaintenance, spliceRebuildRatio);
+			}
+			return list;
+		}
+
+	}
+
+	/**
+	 * The ways in which the reverse-lookup index of a
+	 * {@link ReverseLookupList} can be maintained.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	public enum IndexMaintenance {
+		/**
+		 * The absolute position of each element occurrence is stored, making
+		 * lookups cheap but making insertion or removal of an element before
+		 * the end of the list cost time proportional to the number of elements
+		 * after it.
+		 */
+		ABSOLUTE {
+			@Override
+			ElementPositionIndex createIndex(final List<?> list) {
+				return new AbsolutePositionIndex(list);
+			}
+		},
+		/**
+		 * The positions of the element occurrences are stored relative to one
+		 * another in an order-statistic tree, so that insertion or removal of
+		 * an element at an arbitrary position costs {@code O(log n)} tree
+		 * operations and lookups cost {@code O(log n)}.
+		 */
+		RELATIVE {
+			@Override
+			ElementPositionIndex createIndex(final List<?> list) {
+				return new RelativePositionIndex(list);
+			}
+		};
+
+		/**
+		 * Creates a new index for a given {@link List}.
+		 *
+		 * @param list
+		 *            The {@code List} to index.
+		 * @return A new {@link ElementPositionIndex} instance.
+		 */
+		abstract ElementPositionIndex createIndex(List<?> list);
+	}
+
+	/**
+	 * A {@link SubList} of a list whose decorated {@link List} supports
+	 * {@link RandomAccess fast random access}.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class RandomAccessSubList extends SubList implements RandomAccess {
+
+		private RandomAccessSubList(final SubList parent, final int offset, final int size) {
+			super(parent, offset, size);
+		}
+
+	}
+
+	/**
+	 * A view of a range of a {@link ReverseLookupList} which uses the
+	 * reverse-lookup index of the backing list to find elements within its
+	 * bounds in logarithmic time. Structural changes made through the view
+	 * are made through the backing list so that its index is kept up to date;
+	 * Any other structural change to the backing list invalidates the view.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private class SubList extends AbstractList<E> {
+
+		/**
+		 * An iterator over a {@link SubList} which iterates over the decorated
+		 * {@link List} itself rather than getting each element by its index,
+		 * and which updates the reverse-lookup index of the backing list for
+		 * any modification made through it.
+		 *
+		 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+		 * @since 2026-10-17
+		 *
+		 */
+		private final class SubListIterator implements ListIterator<E> {
+
+			/**
+			 * The position in the backing list of the element to be returned
+			 * by {@link #next()}.
+			 */
+			private int cursor;
+
+			private final ListIterator<E> decoratedIter;
+
+			/**
+			 * The element last returned by {@link #next()} or
+			 * {@link #previous()}.
+			 */
+			private E lastReturned;
+
+			/**
+			 * The position in the backing list of the element last returned by
+			 * {@link #next()} or {@link #previous()} or {@code -1} if it has
+			 * since been removed or there has been an insertion.
+			 */
+			private int lastReturnedPosition;
+
+			private SubListIterator(final int index) {
+				this.cursor = offset + index;
+				this.decoratedIter = decorated.listIterator(cursor);
+				this.lastReturnedPosition = -1;
+			}
+
+			@Override
+			public void add(final E element) {
+				checkForComodification();
+				decoratedIter.add(element);
+				ReverseLookupList.this.modCount++;
+				reverseLookupIndex.inserted(cursor, 1);
+				cursor++;
+				lastReturnedPosition = -1;
+				updateSize(1);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return cursor < offset + size;
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return cursor > offset;
+			}
+
+			@Override
+			public E next() {
+				checkForComodification();
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				lastReturned = decoratedIter.next();
+				lastReturnedPosition = cursor++;
+				return lastReturned;
+			}
+
+			@Override
+			public int nextIndex() {
+				return cursor - offset;
+			}
+
+			@Override
+			public E previous() {
+				checkForComodification();
+				if (!hasPrevious()) {
+					throw new NoSuchElementException();
+				}
+				lastReturned = decoratedIter.previous();
+				lastReturnedPosition = --cursor;
+				return lastReturned;
+			}
+
+			@Override
+			public int previousIndex() {
+				return cursor - offset - 1;
+			}
+
+			@Override
+			public void remove() {
+				if (lastReturnedPosition < 0) {
+					throw new IllegalStateException();
+				}
+				checkForComodification();
+				decoratedIter.remove();
+				ReverseLookupList.this.modCount++;
+				reverseLookupIndex.removed(lastReturnedPosition, lastReturned);
+				cursor = lastReturnedPosition;
+				lastReturnedPosition = -1;
+				lastReturned = null;
+				updateSize(-1);
+			}
+
+			@Override
+			public void set(final E element) {
+				if (lastReturnedPosition < 0) {
+					throw new IllegalStateException();
+				}
+				checkForComodification();
+				decoratedIter.set(element);
+				reverseLookupIndex.replaced(lastReturnedPosition, lastReturned);
+				lastReturned = element;
+			}
+
+		}
+
+		/**
+		 * The {@link ReverseLookupList#modCount} of the backing list which
+		 * this view expects.
+		 */
+		private int expectedModCount;
+
+		/**
+		 * The position in the backing list of the first element of this view.
+		 */
+		private final int offset;
+
+		/**
+		 * The view this view is a view of or {@code null} if it is a view of
+		 * the backing list itself.
+		 */
+		private final SubList parent;
+
+		private int size;
+
+		private SubList(final SubList parent, final int offset, final int size) {
+			this.parent = parent;
+			this.offset = offset;
+			this.size = size;
+			this.expectedModCount = ReverseLookupList.this.modCount;
+		}
+
+		@Override
+		public void add(final int index, final E element) {
+			checkPositionIndex(index, size);
+			checkForComodification();
+			ReverseLookupList.this.add(offset + index, element);
+			updateSize(1);
+		}
+
+		@Override
+		public boolean addAll(final Collection<? extends E> c) {
+			return addAll(size, c);
+		}
+
+		@Override
+		public boolean addAll(final int index, final Collection<? extends E> c) {
+			checkPositionIndex(index, size);
+			checkForComodification();
+			final int oldSize = decorated.size();
+			final boolean result = ReverseLookupList.this.addAll(offset + index, c);
+			updateSize(decorated.size() - oldSize);
+			return result;
+		}
+
+		@Override
+		public boolean contains(final Object o) {
+			return indexOf(o) >= 0;
+		}
+
+		@Override
+		public E get(final int index) {
+			checkElementIndex(index, size);
+			checkForComodification();
+			return decorated.get(offset + index);
+		}
+
+		@Override
+		public int indexOf(final Object o) {
+			checkForComodification();
+			final int position = reverseLookupIndex.ceilingPosition(o, offset);
+			return position >= 0 && position < offset + size ? position - offset : -1;
+		}
+
+		@Override
+		public int lastIndexOf(final Object o) {
+			checkForComodification();
+			final int position = size < 1 ? -1 : reverseLookupIndex.floorPosition(o, offset + size - 1);
+			return position >= offset ? position - offset : -1;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return listIterator();
+		}
+
+		@Override
+		public ListIterator<E> listIterator(final int index) {
+			checkPositionIndex(index, size);
+			checkForComodification();
+			return new SubListIterator(index);
+		}
+
+		@Override
+		public E remove(final int index) {
+			checkElementIndex(index, size);
+			checkForComodification();
+			final E result = ReverseLookupList.this.remove(offset + index);
+			updateSize(-1);
+			return result;
+		}
+
+		@Override
+		public boolean removeAll(final Collection<?> c) {
+			return removeMatching(c, true);
+		}
+
+		@Override
+		public boolean retainAll(final Collection<?> c) {
+			return removeMatching(c, false);
+		}
+
+		@Override
+		public E set(final int index, final E element) {
+			checkElementIndex(index, size);
+			checkForComodification();
+			return ReverseLookupList.this.set(offset + index, element);
+		}
+
+		@Override
+		public int size() {
+			checkForComodification();
+			return size;
+		}
+
+		@Override
+		public List<E> subList(final int fromIndex, final int toIndex) {
+			checkSubListRange(fromIndex, toIndex, size);
+			checkForComodification();
+			return createSubList(this, offset + fromIndex, toIndex - fromIndex);
+		}
+
+		private void checkForComodification() {
+			if (ReverseLookupList.this.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		/**
+		 * Removes the elements of this view which either are or are not in a
+		 * given {@link Collection} in a single pass.
+		 *
+		 * @param c
+		 *            The {@code Collection} to check the elements against.
+		 * @param isRemovingContained
+		 *            If {@code true}, the elements in the collection are
+		 *            removed; Otherwise, all those not in it are removed.
+		 * @return {@code true} iff at least one element was removed.
+		 */
+		private boolean removeMatching(final Collection<?> c, final boolean isRemovingContained) {
+			checkForComodification();
+			final BitSet positionsToRemove = new BitSet(offset + size);
+			final ListIterator<E> iter = decorated.listIterator(offset);
+			for (int position = offset; position < offset + size; ++position) {
+				if (c.contains(iter.next()) == isRemovingContained) {
+					positionsToRemove.set(position);
+				}
+			}
+			final int removedCount = positionsToRemove.cardinality();
+			final boolean result = removePositions(positionsToRemove);
+			if (result) {
+				updateSize(-removedCount);
+			}
+			return result;
+		}
+
+		/**
+		 * Updates the size of this view and of all the views it is a view of
+		 * after a structural change made through it.
+		 *
+		 * @param delta
+		 *            The change in size.
+		 */
+		private void updateSize(final int delta) {
+			for (SubList subList = this; subList != null; subList = subList.parent) {
+				subList.size += delta;
+				subList.expectedModCount = ReverseLookupList.this.modCount;
+				subList.modCount++;
+			}
+		}
+
+		@Override
+		protected void removeRange(final int fromIndex, final int toIndex) {
+			checkForComodification();
+			if (fromIndex < toIndex) {
+				final BitSet positionsToRemove = new BitSet(offset + toIndex);
+				positionsToRemove.set(offset + fromIndex, offset + toIndex);
+				removePositions(positionsToRemove);
+				updateSize(fromIndex - toIndex);
+			}
+		}
+
+	}
+
+	/**
+	 * The default minimum ratio of the number of elements inserted by
+	 * {@link #addAll(int, Collection)} to the resulting size of the list at
+	 * which the index is rebuilt rather than updated.
+	 */
+	public static final double DEFAULT_SPLICE_REBUILD_RATIO = 0.5;
+
 	/**
 	 * The generated serial version UID.
 	 */
-	private static final long serialVersionUID = -1203502786709867906L;
+	private static final long serialVersionUID = 5215993302512736020L;
+
+	private static void checkElementIndex(final int index, final int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private static void checkPositionIndex(final int index, final int size) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private static void checkSubListRange(final int fromIndex, final int toIndex, final int size) {
+		if (fromIndex < 0) {
+			throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+		}
+		if (toIndex > size) {
+			throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+		}
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+	}
 
 	/**
 	 * The decorated {@link List} instance.
@@ -52,18 +704,72 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 	private final List<E> decorated;
 
 	/**
-	 * The reverse-lookup index map for the elements of {@link #decorated the
-	 * decorated <code>List</code>}.
+	 * The way in which {@link #reverseLookupIndex} is maintained.
+	 */
+	private final IndexMaintenance indexMaintenance;
+
+	/**
+	 * The number of times the list has been structurally modified, for
+	 * detecting concurrent modification of {@link #subList(int, int) sub-list
+	 * views}.
 	 */
-	private MultiValueMap<Object, Integer, NavigableSet<Integer>> reverseLookupMap;
+	private transient int modCount;
+
+	/**
+	 * The reverse-lookup index for the elements of {@link #decorated the
+	 * decorated <code>List</code>}, which is derived from the list and so is
+	 * rebuilt rather than serialized.
+	 */
+	private transient ElementPositionIndex reverseLookupIndex;
+
+	/**
+	 * The minimum ratio of the number of elements inserted by
+	 * {@link #addAll(int, Collection)} to the resulting size of the list at
+	 * which the index is rebuilt in a single pass over the list rather than
+	 * updated.
+	 */
+	private final double spliceRebuildRatio;
 
 	/**
 	 * @param decorated
 	 *            The {@link List} to decorate.
 	 */
 	public ReverseLookupList(final List<E> decorated) {
+		this(decorated, IndexMaintenance.ABSOLUTE);
+	}
+
+	/**
+	 * @param decorated
+	 *            The {@link List} to decorate.
+	 * @param indexMaintenance
+	 *            The way in which to maintain the reverse-lookup index.
+	 */
+	public ReverseLookupList(final List<E> decorated, final IndexMaintenance indexMaintenance) {
+		this(decorated, indexMaintenance, DEFAULT_SPLICE_REBUILD_RATIO);
+	}
+
+	/**
+	 * @param decorated
+	 *            The {@link List} to decorate.
+	 * @param indexMaintenance
+	 *            The way in which to maintain the reverse-lookup index.
+	 * @param spliceRebuildRatio
+	 *            The minimum ratio of the number of elements inserted by
+	 *            {@link #addAll(int, Collection)} to the resulting size of the
+	 *            list at which the index is rebuilt rather than updated; A
+	 *            ratio greater than {@code 1} means that it is never rebuilt.
+	 * @throws IllegalArgumentException
+	 *             If the ratio is not positive.
+	 */
+	public ReverseLookupList(final List<E> decorated, final IndexMaintenance indexMaintenance,
+			final double spliceRebuildRatio) {
+		if (!(spliceRebuildRatio > 0.0)) {
+			throw new IllegalArgumentException("Splice rebuild ratio must be positive: " + spliceRebuildRatio);
+		}
 		this.decorated = decorated;
-		this.reverseLookupMap = ListIndex.createListIndexMap(decorated);
+		this.indexMaintenance = indexMaintenance;
+		this.reverseLookupIndex = indexMaintenance.createIndex(decorated);
+		this.spliceRebuildRatio = spliceRebuildRatio;
 	}
 
 	@Override
@@ -71,8 +777,8 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 		final int index = decorated.size();
 		final boolean result = decorated.add(element);
 		if (result) {
-			final boolean wasIndexPut = reverseLookupMap.putValue(element, index);
-			assert wasIndexPut;
+			modCount++;
+			reverseLookupIndex.inserted(index, 1);
 		}
 
 		return result;
@@ -81,15 +787,8 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 	@Override
 	public void add(final int index, final E element) {
 		decorated.add(index, element);
-		// shift all indices in map after "index"
-		final int lastIndex = decorated.size();
-		final List<E> shiftedElements = decorated.subList(index + 1, lastIndex);
-		MultiValueMap.incrementValues(reverseLookupMap, shiftedElements, 1, index, lastIndex);
-		// Put the new element into the reverse-lookup map after shifting the
-		// existing elements because it is possible that the element is present
-		// elsewhere in the list and so already has entries in the map
-		final boolean wasIndexPut = reverseLookupMap.putValue(element, index);
-		assert wasIndexPut;
+		modCount++;
+		reverseLookupIndex.inserted(index, 1);
 	}
 
 	@Override
@@ -97,15 +796,12 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 		final int lowestNewIndex = decorated.size();
 		final boolean result = decorated.addAll(c);
 		if (result) {
-			// Use a sublist of the decorated list for updating the
-			// reverse-lookup map instead of using the argument collection
-			// directly because it is possible that not all elements from the
-			// argument collection were successfully added
-			final int highestNewIndex = decorated.size();
-			final List<E> addedElements = decorated.subList(lowestNewIndex, highestNewIndex);
-			final boolean wereIndicesPut = MultiValueMap.putIncrementingValues(reverseLookupMap, addedElements,
-					lowestNewIndex);
-			assert wereIndicesPut;
+			modCount++;
+			// Use the difference of the new size from the old size instead of
+			// the size of the argument collection because it is possible that
+			// not all elements from the argument collection were successfully
+			// added
+			reverseLookupIndex.inserted(lowestNewIndex, decorated.size() - lowestNewIndex);
 		}
 
 		return result;
@@ -116,23 +812,19 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 		final int oldSize = decorated.size();
 		final boolean result = decorated.addAll(index, c);
 		if (result) {
+			modCount++;
 			// Use the difference of the new size from the old size because it
 			// is possible that not every single element from "c" was
 			// successfully added
-			final int addedElementCount = decorated.size() - oldSize;
-			// Shift indices of existing elements in the reverse-lookup map
-			// first to avoid possible key-value pair clashes
-			final int lastShiftedElementOldIndex = index + addedElementCount;
-			final List<E> shiftedElements = decorated.subList(index, lastShiftedElementOldIndex);
-			MultiValueMap.incrementValues(reverseLookupMap, shiftedElements, addedElementCount, index,
-					lastShiftedElementOldIndex);
-			// Put the new elements into the reverse-lookup map after shifting
-			// the
-			// existing elements because it is possible that the elements are
-			// present
-			// elsewhere in the list and so already have entries in the map
-			final boolean wasPut = MultiValueMap.putIncrementingValues(reverseLookupMap, c, index);
-			assert wasPut;
+			final int newSize = decorated.size();
+			final int addedCount = newSize - oldSize;
+			if (addedCount >= spliceRebuildRatio * newSize) {
+				// Most of the index would have to be updated anyway, so
+				// rebuilding it in one pass is cheaper
+				reverseLookupIndex.rebuild();
+			} else {
+				reverseLookupIndex.inserted(index, addedCount);
+			}
 		}
 
 		return result;
@@ -141,17 +833,25 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 	@Override
 	public void clear() {
 		decorated.clear();
-		reverseLookupMap.clear();
+		modCount++;
+		reverseLookupIndex.cleared();
 	}
 
 	@Override
 	public boolean contains(final Object o) {
-		return reverseLookupMap.containsKey(o);
+		return reverseLookupIndex.containsElement(o);
 	}
 
 	@Override
 	public boolean containsAll(final Collection<?> c) {
-		return reverseLookupMap.keySet().containsAll(c);
+		boolean result = true;
+		for (final Object o : c) {
+			if (!reverseLookupIndex.containsElement(o)) {
+				result = false;
+				break;
+			}
+		}
+		return result;
 	}
 
 	/*
@@ -199,7 +899,7 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 	 *         <code>List</code>}.
 	 */
 	public Map<Object, NavigableSet<Integer>> getReverseLookupMap() {
-		return Collections.unmodifiableMap(reverseLookupMap);
+		return Collections.unmodifiableMap(reverseLookupIndex.asMap());
 	}
 
 	/*
@@ -217,16 +917,7 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 
 	@Override
 	public int indexOf(final Object o) {
-		final int result;
-
-		final SortedSet<Integer> indices = reverseLookupMap.get(o);
-		if (indices.isEmpty()) {
-			result = -1;
-		} else {
-			result = indices.first();
-		}
-
-		return result;
+		return reverseLookupIndex.firstPosition(o);
 	}
 
 	@Override
@@ -241,16 +932,7 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 
 	@Override
 	public int lastIndexOf(final Object o) {
-		final int result;
-
-		final SortedSet<Integer> indices = reverseLookupMap.get(o);
-		if (indices.isEmpty()) {
-			result = -1;
-		} else {
-			result = indices.last();
-		}
-
-		return result;
+		return reverseLookupIndex.lastPosition(o);
 	}
 
 	@Override
@@ -266,15 +948,8 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 	@Override
 	public E remove(final int index) {
 		final E result = decorated.remove(index);
-		// Remove the element from the reverse-lookup map before shifting the
-		// remaining elements because it is possible that the element is present
-		// elsewhere in the list and so still has entries in the map
-		final boolean wasRemoved = reverseLookupMap.removeValue(result, index);
-		assert wasRemoved;
-		// shift all indices in map after "index"
-		final int lastIndex = decorated.size();
-		final List<E> shiftedElements = decorated.subList(index + 1, lastIndex);
-		MultiValueMap.incrementValues(reverseLookupMap, shiftedElements, -1, index, lastIndex);
+		modCount++;
+		reverseLookupIndex.removed(index, result);
 
 		return result;
 	}
@@ -297,39 +972,48 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 
 	@Override
 	public boolean removeAll(final Collection<?> c) {
-		final boolean result = decorated.removeAll(c);
-		if (result) {
-			// Update the entire reverse-lookup map because it's simpler than
-			// trying to deduce which elements were successfully removed
-			reverseLookupMap = ListIndex.createListIndexMap(decorated);
+		final BitSet positionsToRemove = new BitSet(decorated.size());
+		if (c.size() < decorated.size()) {
+			// Look up the positions of the elements to remove in the index
+			// rather than checking every element of the list
+			final Map<Object, NavigableSet<Integer>> indexMap = reverseLookupIndex.asMap();
+			for (final Object o : c) {
+				final NavigableSet<Integer> positions = indexMap.get(o);
+				if (positions != null) {
+					for (final Integer position : positions) {
+						positionsToRemove.set(position);
+					}
+				}
+			}
+		} else {
+			int position = 0;
+			for (final E element : decorated) {
+				if (c.contains(element)) {
+					positionsToRemove.set(position);
+				}
+				position++;
+			}
 		}
-
-		return result;
+		return removePositions(positionsToRemove);
 	}
 
 	@Override
 	public boolean retainAll(final Collection<?> c) {
-		final boolean result = decorated.retainAll(c);
-		if (result) {
-			// Update the entire reverse-lookup map because it's simpler than
-			// trying to deduce which elements were successfully removed
-			reverseLookupMap = ListIndex.createListIndexMap(decorated);
+		final BitSet positionsToRemove = new BitSet(decorated.size());
+		int position = 0;
+		for (final E element : decorated) {
+			if (!c.contains(element)) {
+				positionsToRemove.set(position);
+			}
+			position++;
 		}
-
-		return result;
+		return removePositions(positionsToRemove);
 	}
 
 	@Override
 	public E set(final int index, final E element) {
 		final E result = decorated.set(index, element);
-
-		final Integer indexValue = Integer.valueOf(index);
-		// Remove the old key-index pair from the reverse-lookup map
-		final boolean wasOldKeyRemoved = reverseLookupMap.removeValue(result, indexValue);
-		assert wasOldKeyRemoved;
-		// Put the new key-index pair into the reverse-lookup map
-		final boolean wasNewKeyPut = reverseLookupMap.putValue(element, index);
-		assert wasNewKeyPut;
+		reverseLookupIndex.replaced(index, result);
 
 		return result;
 	}
@@ -339,9 +1023,17 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 		return decorated.size();
 	}
 
+	/**
+	 * Returns a view of a range of this list. The {@link List#indexOf(Object)
+	 * indexOf}, {@link List#lastIndexOf(Object) lastIndexOf} and
+	 * {@link List#contains(Object) contains} methods of the view use the
+	 * reverse-lookup index of this list and so take logarithmic rather than
+	 * linear time.
+	 */
 	@Override
 	public List<E> subList(final int fromIndex, final int toIndex) {
-		return decorated.subList(fromIndex, toIndex);
+		checkSubListRange(fromIndex, toIndex, decorated.size());
+		return createSubList(null, fromIndex, toIndex - fromIndex);
 	}
 
 	@Override
@@ -370,4 +1062,60 @@ public final class ReverseLookupList<E> implements Serializable, List<E> {
 		return builder.toString();
 	}
 
+	/**
+	 * Creates a view of a range of this list which supports
+	 * {@link RandomAccess fast random access} iff the decorated {@link List}
+	 * does.
+	 *
+	 * @param parent
+	 *            The view the new view is a view of or {@code null} if it is a
+	 *            view of this list itself.
+	 * @param offset
+	 *            The position in this list of the first element of the view.
+	 * @param size
+	 *            The size of the view.
+	 * @return A new {@link SubList} instance.
+	 */
+	private SubList createSubList(final SubList parent, final int offset, final int size) {
+		return decorated instanceof RandomAccess ? new RandomAccessSubList(parent, offset, size)
+				: new SubList(parent, offset, size);
+	}
+
+	/**
+	 * Reads the decorated {@link List} and rebuilds the reverse-lookup index
+	 * for it, which is faster than reading the index itself because it needs
+	 * only a single pass over the list.
+	 *
+	 * @param in
+	 *            The stream to read from.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 * @throws ClassNotFoundException
+	 *             If the class of a serialized object cannot be found.
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		reverseLookupIndex = indexMaintenance.createIndex(decorated);
+	}
+
+	/**
+	 * Removes the elements at the given positions from the decorated
+	 * {@link List} in a single compacting pass and then updates the index
+	 * for all of them at once.
+	 *
+	 * @param positions
+	 *            The positions of the elements to remove.
+	 * @return {@code true} iff at least one element was removed.
+	 */
+	private boolean removePositions(final BitSet positions) {
+		final boolean result = !positions.isEmpty();
+		if (result) {
+			final List<E> removedElements = ListIndex.removeAllIndices(decorated, positions);
+			modCount++;
+			reverseLookupIndex.removedAll(positions.stream().toArray(), removedElements);
+		}
+
+		return result;
+	}
+
 }
@@ -0,0 +1,344 @@
+/*
+ * 	Copyright 2013 Todd Shore
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *		http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package com.github.errantlinguist.collections;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link NavigableSet} of {@link Integer} objects which stores its elements
+ * as a sorted array of primitive {@code int} values. This takes a small
+ * fraction of the memory of e.g.&nbsp;a {@link java.util.TreeSet TreeSet} and
+ * creates no garbage on lookup, at the cost of {@code O(n)} insertion and
+ * removal anywhere but at the end of the set.
+ *
+ * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+ * @since 2026-10-17
+ *
+ */
+public final class SortedIntegerArraySet extends AbstractIntegerNavigableSet implements Serializable {
+
+	/**
+	 * An iterator over a range of the backing array of a
+	 * {@link SortedIntegerArraySet}.
+	 *
+	 * @author <a href="mailto:errantlinguist+github@gmail.com">Todd Shore</a>
+	 * @since 2026-10-17
+	 *
+	 */
+	private final class ArrayIterator implements PrimitiveIterator.OfInt {
+
+		private final boolean ascending;
+
+		/**
+		 * The array index of the next element to return.
+		 */
+		private int cursor;
+
+		/**
+		 * The array index of the element last returned or {@code -1} if there
+		 * is none which can be removed.
+		 */
+		private int lastReturned = -1;
+
+		private ArrayIterator(final int cursor, final boolean ascending) {
+			this.cursor = cursor;
+			this.ascending = ascending;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return ascending ? cursor < size : cursor >= 0;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			return values[ascending ? cursor++ : cursor--];
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			removeAt(lastReturned);
+			if (ascending) {
+				cursor = lastReturned;
+			}
+			lastReturned = -1;
+		}
+
+	}
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+	private static final int[] EMPTY_VALUES = new int[0];
+
+	/**
+	 * The generated serial version UID.
+	 */
+	private static final long serialVersionUID = 2870935265101254372L;
+
+	/**
+	 * The number of elements in the set.
+	 */
+	private transient int size;
+
+	/**
+	 * The backing array, the first {@link #size} elements of which are the
+	 * elements of the set in ascending order.
+	 */
+	private transient int[] values;
+
+	public SortedIntegerArraySet() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * @param c
+	 *            The {@link Collection} of elements to initially add to the
+	 *            set.
+	 */
+	public SortedIntegerArraySet(final Collection<? extends Integer> c) {
+		this(c.size());
+		addAll(c);
+	}
+
+	/**
+	 * @param initialCapacity
+	 *            The initial number of elements the set can hold without
+	 *            growing its backing array.
+	 */
+	public SortedIntegerArraySet(final int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.values = initialCapacity == 0 ? EMPTY_VALUES : new int[initialCapacity];
+		this.size = 0;
+	}
+
+	@Override
+	public boolean addInt(final int value) {
+		final boolean result;
+		if (size == 0 || values[size - 1] < value) {
+			// Fast path for appending in ascending order
+			insertAt(size, value);
+			result = true;
+		} else {
+			final int index = Arrays.binarySearch(values, 0, size, value);
+			if (index < 0) {
+				insertAt(-(index + 1), value);
+				result = true;
+			} else {
+				result = false;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean addAscending(final int[] values, final int fromIndex, final int toIndex) {
+		final int oldSize = size;
+		if (fromIndex < toIndex) {
+			final int maxSize = size + toIndex - fromIndex;
+			final int[] dest = maxSize > this.values.length
+					? new int[Math.max(DEFAULT_INITIAL_CAPACITY, maxSize + (maxSize >> 1))] : this.values;
+			size = mergeSortedValues(this.values, size, values, fromIndex, toIndex, dest);
+			this.values = dest;
+		}
+		return size != oldSize;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+	}
+
+	@Override
+	public void closeGaps(final int[] gaps) {
+		if (gaps.length > 0) {
+			for (int i = ceilingIndex(gaps[0]); i < size; ++i) {
+				assert Arrays.binarySearch(gaps, values[i]) < 0;
+				values[i] -= countLower(gaps, values[i]);
+			}
+		}
+	}
+
+	@Override
+	public boolean containsInt(final int value) {
+		return Arrays.binarySearch(values, 0, size, value) >= 0;
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt descendingIntIterator(final int fromValue) {
+		final int index = Arrays.binarySearch(values, 0, size, fromValue);
+		return new ArrayIterator(index < 0 ? -(index + 1) - 1 : index, false);
+	}
+
+	@Override
+	public int firstInt() {
+		if (size < 1) {
+			throw new NoSuchElementException();
+		}
+		return values[0];
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt intIterator(final int fromValue) {
+		final int index = Arrays.binarySearch(values, 0, size, fromValue);
+		return new ArrayIterator(index < 0 ? -(index + 1) : index, true);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size < 1;
+	}
+
+	@Override
+	public int lastInt() {
+		if (size < 1) {
+			throw new NoSuchElementException();
+		}
+		return values[size - 1];
+	}
+
+	@Override
+	public boolean removeInt(final int value) {
+		final int index = Arrays.binarySearch(values, 0, size, value);
+		final boolean result = index >= 0;
+		if (result) {
+			removeAt(index);
+		}
+		return result;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void shiftValues(final int fromValue, final int toValue, final int delta) {
+		if (delta != 0 && fromValue < toValue) {
+			final int start = ceilingIndex(fromValue);
+			final int end = ceilingIndex(toValue);
+			if (start < end) {
+				checkShiftedRange(values[start], values[end - 1], delta);
+				size = shiftSortedValues(values, size, start, end, delta);
+			}
+		}
+	}
+
+	/**
+	 * @return A new array of the elements of this set in ascending order.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Trims the capacity of the backing array to the current size of the set.
+	 */
+	public void trimToSize() {
+		if (values.length > size) {
+			values = size == 0 ? EMPTY_VALUES : Arrays.copyOf(values, size);
+		}
+	}
+
+	/**
+	 * @param value
+	 *            The value to search for.
+	 * @return The index of the least element greater than or equal to the
+	 *         given value or {@link #size} if there is none.
+	 */
+	private int ceilingIndex(final int value) {
+		final int index = Arrays.binarySearch(values, 0, size, value);
+		return index < 0 ? -(index + 1) : index;
+	}
+
+	private void insertAt(final int index, final int value) {
+		if (size == values.length) {
+			final int newCapacity = Math.max(DEFAULT_INITIAL_CAPACITY, size + (size >> 1) + 1);
+			values = Arrays.copyOf(values, newCapacity);
+		}
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = value;
+		size++;
+	}
+
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		values = readValueRuns(in);
+		size = values.length;
+	}
+
+	private void removeAt(final int index) {
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+	}
+
+	/**
+	 * Writes the elements as runs of consecutive values rather than the
+	 * backing array as a whole.
+	 *
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		writeValueRuns(out, Arrays.stream(values, 0, size).iterator(), size);
+	}
+
+	@Override
+	protected long ceilingValue(final int value) {
+		final int index = Arrays.binarySearch(values, 0, size, value);
+		final long result;
+		if (index >= 0) {
+			result = value;
+		} else {
+			final int insertionPoint = -(index + 1);
+			result = insertionPoint < size ? values[insertionPoint] : NO_SUCH_VALUE;
+		}
+		return result;
+	}
+
+	@Override
+	protected long floorValue(final int value) {
+		final int index = Arrays.binarySearch(values, 0, size, value);
+		final long result;
+		if (index >= 0) {
+			result = value;
+		} else {
+			final int precedingIndex = -(index + 1) - 1;
+			result = precedingIndex >= 0 ? values[precedingIndex] : NO_SUCH_VALUE;
+		}
+		return result;
+	}
+
+}